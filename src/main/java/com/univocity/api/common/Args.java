@@ -107,6 +107,13 @@ public class Args {
 		}
 	}
 
+	public static void validDirectory(File directory, String fieldName) {
+		notNull(directory, fieldName);
+		if (directory.exists() && !directory.isDirectory()) {
+			throw new IllegalArgumentException("Illegal " + fieldName + ": '" + directory.getAbsolutePath() + "' it must be a directory.");
+		}
+	}
+
 	public static void validTransactionIsolationLevel(int transactionIsolationLevel) {
 		List<Integer> levels = Arrays.asList(TRANSACTION_NONE, TRANSACTION_READ_COMMITTED, TRANSACTION_READ_UNCOMMITTED, TRANSACTION_REPEATABLE_READ, TRANSACTION_SERIALIZABLE);
 		if (!levels.contains(transactionIsolationLevel)) {
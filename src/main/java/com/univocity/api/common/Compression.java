@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.common;
+
+/**
+ * The <code>Compression</code> enumeration lists the compression formats uniVocity can read from and write to files, decompressing
+ * and compressing their contents as a stream, without intermediate files.
+ *
+ * <p>Formats that store data in independent blocks (gzip files produced by <i>bgzip</i>, Zstandard files with multiple frames and LZ4 frame files)
+ *    can be decompressed by multiple threads, and are split between the threads configured with
+ *    {@link com.univocity.api.entity.text.TextEntityConfiguration#setNumberOfParsingThreads(int)}. Other compressed files are decompressed by a single thread.
+ *
+ * <p><b>Note: </b> {@link #ZSTD}, {@link #LZ4} and {@link #BZIP2} require the <i>zstd-jni</i>, <i>lz4-java</i> and <i>commons-compress</i> libraries,
+ *    respectively, to be available in the classpath.
+ *
+ * @see FileProvider
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public enum Compression {
+
+	/**
+	 * Uncompressed content.
+	 */
+	NONE(""),
+
+	/**
+	 * The gzip format, including block-compressed gzip files produced by <i>bgzip</i>. File extension: {@code .gz}
+	 */
+	GZIP(".gz"),
+
+	/**
+	 * The Zstandard format. File extension: {@code .zst}
+	 */
+	ZSTD(".zst"),
+
+	/**
+	 * The LZ4 frame format. File extension: {@code .lz4}
+	 */
+	LZ4(".lz4"),
+
+	/**
+	 * The bzip2 format. File extension: {@code .bz2}
+	 */
+	BZIP2(".bz2");
+
+	private final String extension;
+
+	private Compression(String extension) {
+		this.extension = extension;
+	}
+
+	/**
+	 * Returns the file extension associated with this compression format, including the leading dot.
+	 * @return the file extension of this compression format, or an empty {@code String} for {@link #NONE}.
+	 */
+	public final String getExtension() {
+		return extension;
+	}
+
+	/**
+	 * Identifies the compression format of a file from the extension of its name (e.g. {@code customers.csv.gz}).
+	 * @param fileName the name of, or the path to, a file.
+	 * @return the compression format associated with the extension of the file name, or {@link #NONE} if the extension is not associated with any compression format.
+	 */
+	public static Compression fromFileName(String fileName) {
+		if (fileName != null) {
+			String name = fileName.trim().toLowerCase();
+			for (Compression compression : values()) {
+				if (compression != NONE && name.endsWith(compression.extension)) {
+					return compression;
+				}
+			}
+		}
+		return NONE;
+	}
+}
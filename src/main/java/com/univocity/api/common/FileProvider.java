@@ -11,6 +11,11 @@ import java.nio.charset.*;
 /**
  * A FileProvider validates and stores the minimum information required by uniVocity to locate and manipulate files.
  *
+ * <p>Compressed files are decompressed while being read, and compressed while being written, according to their {@link Compression} format.
+ * Unless provided explicitly, the compression format is identified by the extension of the file name (see {@link Compression#fromFileName(String)}).
+ * The extension of the compression format is not included in the names of entities derived from file names (e.g. the entity of {@code customers.csv.gz}
+ * is named {@code customers.csv}).
+ *
  * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
  */
 public final class FileProvider {
@@ -18,6 +23,7 @@ public final class FileProvider {
 	private final File file;
 	private final Charset encoding;
 	private final String filePath;
+	private final Compression compression;
 
 	/**
 	 * Creates a provider for the file to be open/written using the default system encoding.
@@ -42,12 +48,23 @@ public final class FileProvider {
 	 * @param encoding the encoding that must be used to read from/write to the given file.
 	 */
 	public FileProvider(File file, Charset encoding) {
+		this(file, encoding, null);
+	}
+
+	/**
+	 * Creates a provider for the file to be open/written using a given encoding and compression format
+	 * @param file the File to be used.
+	 * @param encoding the encoding that must be used to read from/write to the given file.
+	 * @param compression the compression format of the given file. If {@code null}, the format will be identified from the file name.
+	 */
+	public FileProvider(File file, Charset encoding, Compression compression) {
 		if (file == null) {
 			throw new IllegalArgumentException("File cannot be null");
 		}
 		this.encoding = getEncoding(encoding);
 		this.file = file;
 		this.filePath = file.getAbsolutePath();
+		this.compression = getCompression(compression, filePath);
 	}
 
 	/**
@@ -73,12 +90,23 @@ public final class FileProvider {
 	 * @param encoding the encoding that must be used to read from/write to the given file.
 	 */
 	public FileProvider(String filePath, Charset encoding) {
+		this(filePath, encoding, null);
+	}
+
+	/**
+	 * Creates a provider for the file, represented by a path, to be open/written using a given encoding and compression format.
+	 * @param filePath the path to a file. It can either be the path to a file in the file system or a resource in the classpath.
+	 * @param encoding the encoding that must be used to read from/write to the given file.
+	 * @param compression the compression format of the given file. If {@code null}, the format will be identified from the file path.
+	 */
+	public FileProvider(String filePath, Charset encoding, Compression compression) {
 		if (filePath == null || filePath.trim().isEmpty()) {
 			throw new IllegalArgumentException("File path cannot be null or empty");
 		}
 		this.encoding = getEncoding(encoding);
 		this.file = null;
 		this.filePath = filePath;
+		this.compression = getCompression(compression, filePath);
 	}
 
 	private final static Charset getEncoding(String encoding) {
@@ -95,6 +123,13 @@ public final class FileProvider {
 		return encoding;
 	}
 
+	private final static Compression getCompression(Compression compression, String filePath) {
+		if (compression == null) {
+			return Compression.fromFileName(filePath);
+		}
+		return compression;
+	}
+
 	/**
 	 * Returns the File instance given in the constructor of this class, or null if a path to a resource is being used.
 	 * @return the File to be loaded by uniVocity, or null if a resource path should be used instead.
@@ -118,4 +153,12 @@ public final class FileProvider {
 	public final String getFilePath() {
 		return filePath;
 	}
+
+	/**
+	 * Returns the compression format of the provided file.
+	 * @return the compression format used to read from/write to the provided file.
+	 */
+	public final Compression getCompression() {
+		return compression;
+	}
 }
@@ -5,6 +5,7 @@
  ******************************************************************************/
 package com.univocity.api.config;
 
+import java.io.*;
 import java.util.*;
 
 import com.univocity.api.*;
@@ -36,6 +37,8 @@ public class EngineConfiguration {
 	private final HashSet<CustomDataStoreFactory<?>> customDataStoreFactories = new HashSet<CustomDataStoreFactory<?>>();
 	private MetadataSettings metadataSettings;
 	private ScopeStorageProvider persistentStorageProvider;
+	private File temporaryDirectory;
+	private boolean temporaryFileCompressionEnabled = false;
 
 	/**
 	 * Creates a new engine configuration with the essential configuration required by uniVocity for enabling the definition and execution of data mappings.
@@ -121,6 +124,47 @@ public class EngineConfiguration {
 		return persistentStorageProvider;
 	};
 
+	/**
+	 * Obtains the directory where the {@link DataIntegrationEngine} writes temporary files, when the data it processes does not fit in memory.
+	 * <p><i>Defaults to the directory given by the "java.io.tmpdir" system property</i>
+	 * @return the directory for temporary files produced by the engine.
+	 */
+	public final File getTemporaryDirectory() {
+		if (temporaryDirectory == null) {
+			return new File(System.getProperty("java.io.tmpdir"));
+		}
+		return temporaryDirectory;
+	}
+
+	/**
+	 * Defines the directory where the {@link DataIntegrationEngine} writes temporary files, when the data it processes does not fit in memory.
+	 * <p>Temporary files are removed once the operation that produced them is completed.
+	 * @param temporaryDirectory the directory for temporary files produced by the engine. It will be created if it does not exist.
+	 */
+	public final void setTemporaryDirectory(File temporaryDirectory) {
+		Args.validDirectory(temporaryDirectory, "Temporary directory");
+		this.temporaryDirectory = temporaryDirectory;
+	}
+
+	/**
+	 * Indicates whether temporary files written by the {@link DataIntegrationEngine} will be compressed.
+	 * <p>Compression reduces the disk space and I/O required by operations that exceed their memory limits, at the cost of additional processing.
+	 * <p><i>Defaults to {@code false}</i>
+	 * @return a flag indicating whether temporary files will be compressed.
+	 */
+	public final boolean isTemporaryFileCompressionEnabled() {
+		return temporaryFileCompressionEnabled;
+	}
+
+	/**
+	 * Defines whether temporary files written by the {@link DataIntegrationEngine} should be compressed.
+	 * <p>Compression reduces the disk space and I/O required by operations that exceed their memory limits, at the cost of additional processing.
+	 * @param temporaryFileCompressionEnabled a flag indicating whether temporary files should be compressed.
+	 */
+	public final void setTemporaryFileCompressionEnabled(boolean temporaryFileCompressionEnabled) {
+		this.temporaryFileCompressionEnabled = temporaryFileCompressionEnabled;
+	}
+
 	/**
 	 * Adds the configurations for data stores whose entities will be mapped using the engine created by this class.
 	 * @param dataStores configurations of data stores that will have their entities mapped through this engine.
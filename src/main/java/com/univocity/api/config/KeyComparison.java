@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.config;
+
+import com.univocity.api.config.builders.*;
+
+/**
+ * The <code>KeyComparison</code> enumeration provides the algorithms available to compare the identifiers read from a source entity against
+ * the identifiers stored in the metadata. This comparison determines which records are new, which have been mapped before,
+ * and which no longer exist in the source (e.g. to remove them with {@link ExclusionWithMetadata#deleteAbsent()}).
+ *
+ * <p>The algorithms that use local files keep the memory used by the comparison within the limit given by {@link MetadataSettings#getKeyComparisonMemoryLimit()}.
+ *    Files are written to the temporary directory given by {@link EngineConfiguration#getTemporaryDirectory()}, and are compressed if
+ *    {@link EngineConfiguration#isTemporaryFileCompressionEnabled()} evaluates to {@code true}.
+ *
+ * @see MetadataSettings#setKeyComparison(KeyComparison)
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public enum KeyComparison {
+
+	/**
+	 * Identifiers read from the source are written to the temporary table in batches, and compared against the metadata table by the database.
+	 * <p>This is available only when metadata is stored in a database (see {@link MetadataStorage}).
+	 */
+	DATABASE,
+
+	/**
+	 * Identifiers read from the source and from the metadata are sorted in runs that fit in memory, written to local files and then merged,
+	 * comparing both sequences of identifiers in a single pass.
+	 * <p>This is recommended when the identifiers can be read from the metadata in order, and produces the differences in identifier order.
+	 */
+	EXTERNAL_SORT,
+
+	/**
+	 * Identifiers read from the source and from the metadata are distributed by hash into partitions, with partitions that do not fit in memory written to
+	 * local files. Each pair of partitions is then compared using an in-memory hash table.
+	 * <p>This is usually faster than {@link #EXTERNAL_SORT} as identifiers do not have to be sorted, and requires a single pass over each partition file.
+	 */
+	GRACE_HASH
+}
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.config;
+
+import java.io.*;
+
+/**
+ * A process for reading {@link MetadataRecord}s from a {@link MetadataStorage}.
+ * Instances of this process must be created when {@link MetadataStorage#readRecords(String, String)} is called from a user-provided storage implementation.
+ *
+ * <p>uniVocity always invokes {@link #close()} once it stops reading, even if not all records have been read. Implementations backed by files or database
+ *    connections must release them at this point.
+ *
+ * @see MetadataStorage
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public interface MetadataReader extends Closeable {
+
+	/**
+	 * Reads the next metadata record from the storage that originated this process.
+	 * @return the next metadata record, or null if all records have been read.
+	 */
+	public MetadataRecord readNext();
+
+	/**
+	 * Closes and releases any resources allocated by the process.
+	 */
+	@Override
+	public void close();
+}
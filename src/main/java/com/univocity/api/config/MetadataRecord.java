@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.config;
+
+import com.univocity.api.common.*;
+
+/**
+ * A <code>MetadataRecord</code> associates a record of a source entity with the record of a destination entity it was mapped to.
+ * It corresponds to a row of the metadata table described in {@link MetadataSettings}, and is the unit of data exchanged with
+ * a {@link MetadataStorage}.
+ *
+ * <p>Identifiers are represented as {@code String}s, produced by uniVocity from the values of all identifier fields of each record.
+ *    Hashes are represented by the hexadecimal value of the fingerprint configured with {@link MetadataSettings#setRowFingerprint(RowFingerprint)}.
+ *
+ * @see MetadataStorage
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public final class MetadataRecord {
+
+	private final String source;
+	private final String sourceId;
+	private final String sourceHash;
+	private final String destination;
+	private final String destinationId;
+	private final String destinationHash;
+	private final char flag;
+	private final long batchId;
+
+	/**
+	 * Creates a new metadata record.
+	 * @param source the name of the source entity
+	 * @param sourceId the identifier of the source record
+	 * @param sourceHash the fingerprint of the mapped values of the source record, or {@code null} if not available.
+	 * @param destination the name of the destination entity
+	 * @param destinationId the identifier of the destination record
+	 * @param destinationHash the fingerprint of the values of the destination record, or {@code null} if not available.
+	 * @param flag the flag associated with the record by uniVocity.
+	 * @param batchId the identifier of the mapping cycle that produced the record.
+	 */
+	public MetadataRecord(String source, String sourceId, String sourceHash, String destination, String destinationId, String destinationHash, char flag, long batchId) {
+		Args.notBlank(source, "Source entity name");
+		Args.notNull(sourceId, "Source identifier");
+		Args.notBlank(destination, "Destination entity name");
+		Args.notNull(destinationId, "Destination identifier");
+
+		this.source = source;
+		this.sourceId = sourceId;
+		this.sourceHash = sourceHash;
+		this.destination = destination;
+		this.destinationId = destinationId;
+		this.destinationHash = destinationHash;
+		this.flag = flag;
+		this.batchId = batchId;
+	}
+
+	/**
+	 * Returns the name of the source entity
+	 * @return the source entity name
+	 */
+	public final String getSource() {
+		return source;
+	}
+
+	/**
+	 * Returns the identifier of the source record
+	 * @return the source identifier
+	 */
+	public final String getSourceId() {
+		return sourceId;
+	}
+
+	/**
+	 * Returns the fingerprint of the mapped values of the source record.
+	 * @return the source fingerprint, or {@code null} if not available.
+	 */
+	public final String getSourceHash() {
+		return sourceHash;
+	}
+
+	/**
+	 * Returns the name of the destination entity
+	 * @return the destination entity name
+	 */
+	public final String getDestination() {
+		return destination;
+	}
+
+	/**
+	 * Returns the identifier of the destination record
+	 * @return the destination identifier
+	 */
+	public final String getDestinationId() {
+		return destinationId;
+	}
+
+	/**
+	 * Returns the fingerprint of the values of the destination record.
+	 * @return the destination fingerprint, or {@code null} if not available.
+	 */
+	public final String getDestinationHash() {
+		return destinationHash;
+	}
+
+	/**
+	 * Returns the flag associated with this record by uniVocity.
+	 * @return the record flag
+	 */
+	public final char getFlag() {
+		return flag;
+	}
+
+	/**
+	 * Returns the identifier of the mapping cycle that produced this record.
+	 * @return the batch identifier
+	 */
+	public final long getBatchId() {
+		return batchId;
+	}
+
+	@Override
+	public String toString() {
+		return source + "[" + sourceId + "] -> " + destination + "[" + destinationId + "]";
+	}
+}
@@ -5,6 +5,7 @@
  ******************************************************************************/
 package com.univocity.api.config;
 
+import java.io.*;
 import java.sql.*;
 
 import javax.sql.*;
@@ -19,7 +20,11 @@ import com.univocity.api.entity.jdbc.*;
  * metadata structure will be created automatically. This of course, means any metadata information will be lost
  * when the application is shut down.
  *
+ * <p>Metadata can also be stored without a database, in local files or using a custom {@link MetadataStorage} (see {@link #MetadataSettings(File)}
+ * and {@link #MetadataSettings(MetadataStorage)}).</p>
+ *
  * <p>uniVocity requires two database tables only: by default, these have the names "univocity_metadata" and "univocity_tmp".
+ * A third table, "univocity_checkpoint", is required only if resumable reads are enabled in any JDBC entity (see {@link JdbcEntityConfiguration#setReadCheckpointEnabled(boolean)}).
  * The scripts to create these tables and associated indexes are provided with the univocity implementation package, under the "metadata" folder.</p>
  *
  * <p><i><b>Important: </b> always refer to the script in the implementation package as it could have been modified to adapt to the specific implementation requirements.</i></p>
@@ -39,16 +44,33 @@ import com.univocity.api.entity.jdbc.*;
  *		CONSTRAINT pk_univocity_md PRIMARY KEY (source, destination, source_id, destination_id)
  *	);
  *
- *	CREATE INDEX u_md_dst_idx ON univocity_metadata (source, destination, destination_id);
- *
  *  CREATE TABLE univocity_tmp (
  *		table_name			VARCHAR(256),
  *		table_id			VARCHAR(256),
  *		batch_id			BIGINT,
  *		CONSTRAINT pk_univocity_tmp PRIMARY KEY (table_name, table_id, batch_id)
  *	)
+ *
+ *  CREATE TABLE univocity_checkpoint (
+ *		source				VARCHAR(256) NOT NULL,
+ *		destination			VARCHAR(256) NOT NULL,
+ *		last_id				VARCHAR(256) NOT NULL,
+ *		batch_id			BIGINT,
+ *		CONSTRAINT pk_univocity_chk PRIMARY KEY (source, destination)
+ *	)
  * </pre></blockquote><hr>
  *
+ * <p>The type of the {@code source_hash} and {@code destination_hash} columns depends on the fingerprint size configured with {@link #setRowFingerprint(RowFingerprint)}.
+ * If change detection in the database is enabled with {@link #setDatabaseChangeDetectionEnabled(boolean)}, the temporary table requires an additional column,
+ * {@code table_hash}, with the same type.</p>
+ *
+ * <p>The indexes of the metadata table are produced by {@link #getRecommendedIndexes(DatabaseDialect)}. Its {@code <table>_dst_idx} index replaces the
+ * {@code u_md_dst_idx} index created by the scripts of previous versions, which should be dropped.</p>
+ *
+ * <p>Large volumes of metadata can be split by destination entity with {@link #setMetadataTableLayout(MetadataTableLayout)}. The indexes recommended
+ * for the database in use are produced by {@link #getRecommendedIndexes(DatabaseDialect)}, except for the tables created
+ * by uniVocity with {@link MetadataTableLayout#TABLE_PER_ENTITY}.</p>
+ *
  * @see EngineConfiguration
  *
  * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
@@ -57,13 +79,33 @@ import com.univocity.api.entity.jdbc.*;
 public final class MetadataSettings {
 
 	private DataSource dataSource;
+	private File storageDirectory;
+	private MetadataStorage metadataStorage;
 	private String metadataTableName = "univocity_metadata";
 	private String temporaryTableName = "univocity_tmp";
+	private String checkpointTableName = "univocity_checkpoint";
 	private DatabaseCapabilities databaseInformation = null;
 	private int batchSize = 10000;
+	private boolean adaptiveBatchSizeEnabled = false;
+	private int minimumBatchSize = 100;
+	private int maximumBatchSize = 50000;
+	private int targetBatchDuration = 1000;
 	private int transactionTimeout = -1;
 	private int transactionIsolationLevel = Connection.TRANSACTION_REPEATABLE_READ;
 	private int fetchSize = 10000;
+	private RowFingerprint rowFingerprint = RowFingerprint.HASH_32;
+	private boolean databaseChangeDetectionEnabled = false;
+	private MetadataTableLayout metadataTableLayout = MetadataTableLayout.SHARED_TABLE;
+	private int compactionInterval = 0;
+	private int cacheSize = 0;
+	private boolean cachePreloadEnabled = false;
+	private boolean writeBehindEnabled = false;
+	private boolean referenceMapEnabled = false;
+	private int referenceMapMemoryLimit = 256;
+	private boolean identifierFilterEnabled = false;
+	private double identifierFilterFalsePositiveRate = 0.01;
+	private KeyComparison keyComparison = KeyComparison.DATABASE;
+	private int keyComparisonMemoryLimit = 64;
 
 	/**
 	 * Creates a new metadata setting configuration with a {@link javax.sql.DataSource}.
@@ -75,6 +117,34 @@ public final class MetadataSettings {
 		this.dataSource = dataSource;
 	}
 
+	/**
+	 * Creates a new metadata setting configuration that stores metadata in local files, using uniVocity's embedded metadata storage.
+	 * <p>Metadata records are appended to log files and located through a memory-mapped index, both kept in the given directory. This avoids a round trip
+	 *    to a database for each metadata operation, but the directory must not be shared by engines running in different processes.
+	 * <p>Settings specific to JDBC, such as table names, transaction settings and indexes, are ignored by the embedded storage. Identifiers are compared
+	 *    with {@link KeyComparison#GRACE_HASH} by default, and features that require queries to metadata tables can't be enabled (see {@link MetadataStorage}).
+	 *    Use {@link DataIntegrationEngine#importMetadata(MetadataSettings)} and {@link DataIntegrationEngine#exportMetadata(MetadataSettings)}
+	 *    to move metadata between the embedded storage and the metadata tables of a database.
+	 * @param storageDirectory the directory where metadata files will be stored. It will be created if it does not exist.
+	 */
+	public MetadataSettings(File storageDirectory) {
+		Args.validDirectory(storageDirectory, "Metadata storage directory");
+		this.storageDirectory = storageDirectory;
+		this.keyComparison = KeyComparison.GRACE_HASH;
+	}
+
+	/**
+	 * Creates a new metadata setting configuration that stores metadata using a custom {@link MetadataStorage} implementation.
+	 * <p>Settings specific to JDBC, such as table names, transaction settings and indexes, are ignored by custom storage implementations. Identifiers are compared
+	 *    with {@link KeyComparison#GRACE_HASH} by default, and features that require queries to metadata tables can't be enabled (see {@link MetadataStorage}).
+	 * @param metadataStorage the storage mechanism to be used for persisting metadata.
+	 */
+	public MetadataSettings(MetadataStorage metadataStorage) {
+		Args.notNull(metadataStorage, "Metadata storage");
+		this.metadataStorage = metadataStorage;
+		this.keyComparison = KeyComparison.GRACE_HASH;
+	}
+
 	/**
 	 * Obtains the number of metadata rows to be persisted in a single batch execution.
 	 * <p>This setting has an effect only when {@link DatabaseCapabilities#isBatchSupported()} evaluates to {@code true}.
@@ -99,6 +169,91 @@ public final class MetadataSettings {
 		this.batchSize = batchSize;
 	}
 
+	/**
+	 * Indicates whether the number of metadata rows persisted in each batch will be adjusted automatically, based on the time taken by each batch execution.
+	 * <p>uniVocity starts with the value returned by {@link #getBatchSize()}, clamped to the limits given by {@link #getMinimumBatchSize()} and {@link #getMaximumBatchSize()},
+	 *    and adjusts it using the same strategy applied to JDBC entities:
+	 * <ul>
+	 * 	<li>While batches execute within the duration returned by {@link #getTargetBatchDuration()} and the number of rows persisted per second does not drop,
+	 * 		the batch size is increased by a step equal to {@link #getMinimumBatchSize()}, up to {@link #getMaximumBatchSize()}.</li>
+	 * 	<li>When a batch executes within the target duration but persists fewer rows per second than the previous batch, the batch size is kept unchanged.</li>
+	 *  <li>When a batch takes longer than the target duration, the batch size is halved, down to {@link #getMinimumBatchSize()}.</li>
+	 * </ul>
+	 * <p>The metadata batch size in use is available from {@link EntityMappingContext#getCurrentMetadataBatchSize()}. Once it converges, you might want to disable
+	 *    this setting and pin the value with {@link #setBatchSize(int)}.
+	 * <p><i>Defaults to {@code false}</i>
+	 * @return a flag indicating whether the metadata batch size will be adjusted automatically.
+	 * @see JdbcEntityConfiguration#isAdaptiveBatchSizeEnabled()
+	 */
+	public final boolean isAdaptiveBatchSizeEnabled() {
+		return adaptiveBatchSizeEnabled;
+	}
+
+	/**
+	 * Defines whether the number of metadata rows persisted in each batch should be adjusted automatically, based on the time taken by each batch execution.
+	 * Refer to {@link #isAdaptiveBatchSizeEnabled()} for details.
+	 * @param adaptiveBatchSizeEnabled a flag indicating whether the metadata batch size should be adjusted automatically.
+	 * @see JdbcEntityConfiguration#setAdaptiveBatchSizeEnabled(boolean)
+	 */
+	public final void setAdaptiveBatchSizeEnabled(boolean adaptiveBatchSizeEnabled) {
+		this.adaptiveBatchSizeEnabled = adaptiveBatchSizeEnabled;
+	}
+
+	/**
+	 * Obtains the smallest batch size uniVocity can use when adjusting the metadata batch size automatically.
+	 * <p><i>Defaults to 100 rows</i>
+	 * @return the lower bound of the metadata batch size when adaptive batch sizing is enabled.
+	 */
+	public final int getMinimumBatchSize() {
+		return minimumBatchSize;
+	}
+
+	/**
+	 * Obtains the largest batch size uniVocity can use when adjusting the metadata batch size automatically.
+	 * <p><i>Defaults to 50,000 rows</i>
+	 * @return the upper bound of the metadata batch size when adaptive batch sizing is enabled.
+	 */
+	public final int getMaximumBatchSize() {
+		return maximumBatchSize;
+	}
+
+	/**
+	 * Defines the bounds within which uniVocity can adjust the metadata batch size automatically.
+	 * @param minimumBatchSize the lower bound of the metadata batch size when adaptive batch sizing is enabled.
+	 * @param maximumBatchSize the upper bound of the metadata batch size when adaptive batch sizing is enabled.
+	 */
+	public final void setAdaptiveBatchSizeLimits(int minimumBatchSize, int maximumBatchSize) {
+		Args.positive(minimumBatchSize, "Minimum batch size");
+		Args.positive(maximumBatchSize, "Maximum batch size");
+		if (minimumBatchSize > maximumBatchSize) {
+			throw new IllegalArgumentException("Minimum batch size (" + minimumBatchSize + ") cannot be greater than the maximum batch size (" + maximumBatchSize + ")");
+		}
+		this.minimumBatchSize = minimumBatchSize;
+		this.maximumBatchSize = maximumBatchSize;
+	}
+
+	/**
+	 * Obtains the maximum time, in milliseconds, a single batch execution should take when the metadata batch size is adjusted automatically.
+	 * Batches that take longer than this will cause the batch size to be reduced.
+	 * <p>This setting has an effect only when {@link #isAdaptiveBatchSizeEnabled()} evaluates to true.
+	 * <p><i>Defaults to 1,000 milliseconds</i>
+	 * @return the target duration of each metadata batch execution, in milliseconds.
+	 * @see JdbcEntityConfiguration#getTargetBatchDuration()
+	 */
+	public final int getTargetBatchDuration() {
+		return targetBatchDuration;
+	}
+
+	/**
+	 * Defines the maximum time, in milliseconds, a single batch execution should take when the metadata batch size is adjusted automatically.
+	 * Refer to {@link #getTargetBatchDuration()} for details.
+	 * @param targetBatchDuration the target duration of each metadata batch execution, in milliseconds.
+	 */
+	public final void setTargetBatchDuration(int targetBatchDuration) {
+		Args.positive(targetBatchDuration, "Target batch duration");
+		this.targetBatchDuration = targetBatchDuration;
+	}
+
 	/**
 	 * Obtains the configured metadata table name configured for uniVocity.
 	 *  <p><i>Defaults to "univocity_metadata"</i></p>
@@ -108,10 +263,19 @@ public final class MetadataSettings {
 		return metadataTableName;
 	}
 
-	private final void validateTableNames(String meta, String tmp) {
+	private final void validateDatabaseStorage(String feature) {
+		if (storageDirectory != null || metadataStorage != null) {
+			throw new IllegalArgumentException(feature + " requires metadata to be stored in a database");
+		}
+	}
+
+	private final void validateTableNames(String meta, String tmp, String checkpoint) {
 		if (meta.equalsIgnoreCase(tmp)) {
 			throw new IllegalArgumentException("Metadata table name cannot be the same as the temporary table name");
 		}
+		if (checkpoint.equalsIgnoreCase(meta) || checkpoint.equalsIgnoreCase(tmp)) {
+			throw new IllegalArgumentException("Checkpoint table name cannot be the same as the metadata or temporary table names");
+		}
 	}
 
 	/**
@@ -120,8 +284,9 @@ public final class MetadataSettings {
 	 */
 	public final void setMetadataTableName(String metadataTableName) {
 		Args.notBlank(metadataTableName, "Metadata table name");
-		validateTableNames(metadataTableName, this.temporaryTableName);
-		this.metadataTableName = metadataTableName.trim();
+		metadataTableName = metadataTableName.trim();
+		validateTableNames(metadataTableName, this.temporaryTableName, this.checkpointTableName);
+		this.metadataTableName = metadataTableName;
 	}
 
 	/**
@@ -138,9 +303,30 @@ public final class MetadataSettings {
 	 * @param temporaryTableName the name of the temporary metadata table
 	 */
 	public final void setTemporaryTableName(String temporaryTableName) {
-		Args.notBlank(metadataTableName, "Metadata table name");
-		validateTableNames(this.metadataTableName, temporaryTableName);
-		this.temporaryTableName = temporaryTableName.trim();
+		Args.notBlank(temporaryTableName, "Temporary table name");
+		temporaryTableName = temporaryTableName.trim();
+		validateTableNames(this.metadataTableName, temporaryTableName, this.checkpointTableName);
+		this.temporaryTableName = temporaryTableName;
+	}
+
+	/**
+	 * Obtains the configured table name for storing the progress of resumable reads (see {@link JdbcEntityConfiguration#setReadCheckpointEnabled(boolean)}).
+	 *  <p><i>Defaults to "univocity_checkpoint"</i>
+	 * @return the name of the checkpoint table
+	 */
+	public final String getCheckpointTableName() {
+		return checkpointTableName;
+	}
+
+	/**
+	 * Defines the name of the table that should be used by uniVocity to store the progress of resumable reads (see {@link JdbcEntityConfiguration#setReadCheckpointEnabled(boolean)}).
+	 * @param checkpointTableName the name of the checkpoint table
+	 */
+	public final void setCheckpointTableName(String checkpointTableName) {
+		Args.notBlank(checkpointTableName, "Checkpoint table name");
+		checkpointTableName = checkpointTableName.trim();
+		validateTableNames(this.metadataTableName, this.temporaryTableName, checkpointTableName);
+		this.checkpointTableName = checkpointTableName;
 	}
 
 	/**
@@ -163,12 +349,29 @@ public final class MetadataSettings {
 	}
 
 	/**
-	 * @return the {@link javax.sql.DataSource} that provides connections to a database configured to use the necessary metadata tables.
+	 * @return the {@link javax.sql.DataSource} that provides connections to a database configured to use the necessary metadata tables,
+	 * or {@code null} if metadata is not stored in a database.
 	 */
 	public final DataSource getDataSource() {
 		return dataSource;
 	}
 
+	/**
+	 * Returns the directory where uniVocity's embedded metadata storage keeps its files.
+	 * @return the metadata storage directory, or {@code null} if the embedded metadata storage is not used.
+	 */
+	public final File getStorageDirectory() {
+		return storageDirectory;
+	}
+
+	/**
+	 * Returns the custom storage mechanism used for persisting metadata.
+	 * @return the custom {@link MetadataStorage}, or {@code null} if metadata is stored in a database or in the embedded metadata storage.
+	 */
+	public final MetadataStorage getMetadataStorage() {
+		return metadataStorage;
+	}
+
 	/**
 	 * Obtains the timeout, in number of seconds, for transactions created for metadata manipulation.
 	 * <p>Transactions will be created automatically by uniVocity while performing data mapping operations between two entities.
@@ -244,4 +447,348 @@ public final class MetadataSettings {
 		this.fetchSize = fetchSize;
 	}
 
+	/**
+	 * Obtains the size of the fingerprint computed from the mapped values of each row, which is stored in the metadata table and used to detect modified records.
+	 * <p>Comparing fingerprints allows uniVocity to identify modified records without reading the data stored in the destination entity.
+	 * <p><i>Defaults to {@link RowFingerprint#HASH_32}</i>
+	 * @return the fingerprint size used to detect changes in records mapped with metadata.
+	 */
+	public final RowFingerprint getRowFingerprint() {
+		return rowFingerprint;
+	}
+
+	/**
+	 * Defines the size of the fingerprint computed from the mapped values of each row, which is stored in the metadata table and used to detect modified records.
+	 * <p><b>Note: </b> the hash columns of existing metadata tables must be altered to the type required by the selected fingerprint (see {@link RowFingerprint}).
+	 *    Fingerprints stored with a different size are treated as modified in the next cycle, and will then be replaced.
+	 * @param rowFingerprint the fingerprint size used to detect changes in records mapped with metadata.
+	 */
+	public final void setRowFingerprint(RowFingerprint rowFingerprint) {
+		Args.notNull(rowFingerprint, "Row fingerprint");
+		this.rowFingerprint = rowFingerprint;
+	}
+
+	/**
+	 * Indicates whether the comparison of row fingerprints will be executed by the metadata database.
+	 * <p>By default, uniVocity reads the stored fingerprints of the mapped rows and compares them in memory.
+	 *    When this setting is enabled, the identifiers and fingerprints of each batch of mapped rows are written to the temporary table instead,
+	 *    and a single query joining the temporary table against the metadata table returns only the identifiers of rows that have been modified.
+	 *    This reduces the amount of metadata transferred from the database when most rows are unchanged.
+	 * <p><i>Defaults to {@code false}</i>
+	 * @return a flag indicating whether fingerprints will be compared in the metadata database.
+	 */
+	public final boolean isDatabaseChangeDetectionEnabled() {
+		return databaseChangeDetectionEnabled;
+	}
+
+	/**
+	 * Defines whether the comparison of row fingerprints should be executed by the metadata database.
+	 * Refer to {@link #isDatabaseChangeDetectionEnabled()} for details.
+	 * <p><b>Note: </b> the temporary table must contain the {@code table_hash} column described in the documentation of this class.
+	 * <p>An {@link IllegalArgumentException} is thrown when enabling this setting if metadata is not stored in a database (see {@link MetadataStorage}).
+	 * @param databaseChangeDetectionEnabled a flag indicating whether fingerprints should be compared in the metadata database.
+	 */
+	public final void setDatabaseChangeDetectionEnabled(boolean databaseChangeDetectionEnabled) {
+		if (databaseChangeDetectionEnabled) {
+			validateDatabaseStorage("Change detection in the database");
+		}
+		this.databaseChangeDetectionEnabled = databaseChangeDetectionEnabled;
+	}
+
+	/**
+	 * Obtains the layout of the tables used to store metadata records of different mappings.
+	 * <p><i>Defaults to {@link MetadataTableLayout#SHARED_TABLE}</i>
+	 * @return the layout of the metadata tables.
+	 */
+	public final MetadataTableLayout getMetadataTableLayout() {
+		return metadataTableLayout;
+	}
+
+	/**
+	 * Defines the layout of the tables used to store metadata records of different mappings.
+	 * <p><b>Note: </b> existing metadata records are not moved when the layout is changed. Use {@link DataIntegrationEngine#compactMetadata()}
+	 *    to remove obsolete records before migrating them manually.
+	 * @param metadataTableLayout the layout of the metadata tables.
+	 */
+	public final void setMetadataTableLayout(MetadataTableLayout metadataTableLayout) {
+		Args.notNull(metadataTableLayout, "Metadata table layout");
+		this.metadataTableLayout = metadataTableLayout;
+	}
+
+	/**
+	 * Obtains the number of mapping cycles executed between each automatic compaction of the metadata tables (see {@link DataIntegrationEngine#compactMetadata()}).
+	 * <p><i>Defaults to 0 (metadata is compacted only when requested)</i>
+	 * @return the number of mapping cycles between each compaction of the metadata tables.
+	 */
+	public final int getCompactionInterval() {
+		return compactionInterval;
+	}
+
+	/**
+	 * Defines the number of mapping cycles executed between each automatic compaction of the metadata tables (see {@link DataIntegrationEngine#compactMetadata()}).
+	 * <p>Compaction is executed after the last cycle of each interval completes.
+	 * @param compactionInterval the number of mapping cycles between each compaction of the metadata tables. Use 0 to disable automatic compaction.
+	 */
+	public final void setCompactionInterval(int compactionInterval) {
+		Args.positiveOrZero(compactionInterval, "Compaction interval");
+		this.compactionInterval = compactionInterval;
+	}
+
+	/**
+	 * Produces the statements to create the indexes recommended for the metadata table, according to the dialect of the metadata database.
+	 * <p>These indexes support the lookups performed by uniVocity when mapping with metadata, and the removal of obsolete records
+	 *    by {@link DataIntegrationEngine#compactMetadata()}.
+	 * <p>With {@link MetadataTableLayout#TABLE_PER_ENTITY}, the metadata table is not used: uniVocity creates the equivalent indexes on each table it creates,
+	 *    and an {@link IllegalStateException} is thrown by this method.
+	 * @param dialect the dialect of the database that contains the metadata table.
+	 * @return the sequence of {@code CREATE INDEX} statements for the metadata table.
+	 */
+	public final String[] getRecommendedIndexes(DatabaseDialect dialect) {
+		Args.notNull(dialect, "Database dialect");
+		if (metadataTableLayout == MetadataTableLayout.TABLE_PER_ENTITY) {
+			throw new IllegalStateException("Metadata table '" + metadataTableName + "' is not used with the " + metadataTableLayout + " layout. Indexes are created by uniVocity on each metadata table of this layout");
+		}
+		String table = metadataTableName;
+
+		String destinationIndex = "CREATE INDEX " + table + "_dst_idx ON " + table + " (source, destination, destination_id)";
+		switch (dialect) {
+			case SQLServer_2005:
+			case SQLServer_2008:
+			case SQLServer_2012:
+				destinationIndex += " INCLUDE (source_hash, flag)";
+				break;
+			case Oracle_10g:
+			case Oracle_9i:
+			case Oracle_8i:
+				destinationIndex += " COMPRESS 2";
+				break;
+			default:
+				break;
+		}
+
+		String batchIndex = "CREATE INDEX " + table + "_bat_idx ON " + table + " (destination, batch_id)";
+
+		if (metadataTableLayout == MetadataTableLayout.PARTITIONED_TABLE && dialect.isListPartitioningSupported()) {
+			switch (dialect) {
+				case Oracle_10g:
+				case Oracle_9i:
+					destinationIndex += " LOCAL";
+					batchIndex += " LOCAL";
+					break;
+				default:
+					break;
+			}
+		}
+
+		return new String[] { destinationIndex, batchIndex };
+	}
+
+	/**
+	 * Obtains the maximum number of metadata records kept in memory for each pair of source and destination entities.
+	 * <p>When the cache is enabled, metadata records read or written by uniVocity are kept in memory, so that change detection and the resolution of references
+	 *    to previously mapped entities (e.g. with {@link com.univocity.api.config.builders.ReferenceMappingSetup}) do not need to query the metadata storage again.
+	 *    The least recently used records are evicted once the limit is reached.
+	 * <p>Cached records are loaded on demand, unless {@link #isCachePreloadEnabled()} evaluates to {@code true}.
+	 * <p><i>Defaults to 0 (metadata is not cached)</i>
+	 * @return the maximum number of metadata records cached per pair of mapped entities.
+	 */
+	public final int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Defines the maximum number of metadata records kept in memory for each pair of source and destination entities.
+	 * Refer to {@link #getCacheSize()} for details.
+	 * @param cacheSize the maximum number of metadata records cached per pair of mapped entities. Use 0 to disable the cache.
+	 */
+	public final void setCacheSize(int cacheSize) {
+		Args.positiveOrZero(cacheSize, "Metadata cache size");
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Indicates whether the metadata cache of each entity mapping will be populated at the start of each mapping cycle, instead of on demand.
+	 * <p>Metadata records are read in pages of {@link #getFetchSize()} rows, until all records of the mapping are loaded or the limit given by {@link #getCacheSize()} is reached.
+	 *    Preloading avoids a query to the metadata storage for each batch of rows, and is recommended when most of the metadata of an entity is used in each cycle.
+	 * <p>This setting has an effect only when {@link #getCacheSize()} is greater than 0.
+	 * <p><i>Defaults to {@code false}</i>
+	 * @return a flag indicating whether metadata caches will be populated at the start of each mapping cycle.
+	 */
+	public final boolean isCachePreloadEnabled() {
+		return cachePreloadEnabled;
+	}
+
+	/**
+	 * Defines whether the metadata cache of each entity mapping should be populated at the start of each mapping cycle, instead of on demand.
+	 * Refer to {@link #isCachePreloadEnabled()} for details.
+	 * @param cachePreloadEnabled a flag indicating whether metadata caches should be populated at the start of each mapping cycle.
+	 */
+	public final void setCachePreloadEnabled(boolean cachePreloadEnabled) {
+		this.cachePreloadEnabled = cachePreloadEnabled;
+	}
+
+	/**
+	 * Indicates whether new metadata records will be written to the metadata storage by a separate thread, while uniVocity continues to map data.
+	 * <p>Records are accumulated in memory and written in batches of {@link #getBatchSize()} records. Any pending records are written before
+	 *    the transaction of the metadata storage is committed, so the metadata remains consistent with the data persisted in the destination.
+	 * <p><i>Defaults to {@code false}</i>
+	 * @return a flag indicating whether metadata records will be written in the background.
+	 */
+	public final boolean isWriteBehindEnabled() {
+		return writeBehindEnabled;
+	}
+
+	/**
+	 * Defines whether new metadata records should be written to the metadata storage by a separate thread, while uniVocity continues to map data.
+	 * Refer to {@link #isWriteBehindEnabled()} for details.
+	 * @param writeBehindEnabled a flag indicating whether metadata records should be written in the background.
+	 */
+	public final void setWriteBehindEnabled(boolean writeBehindEnabled) {
+		this.writeBehindEnabled = writeBehindEnabled;
+	}
+
+	/**
+	 * Indicates whether references to previously mapped entities will be resolved against an in-memory map, instead of querying the metadata for each batch of rows.
+	 * <p>When enabled, uniVocity reads the metadata of each referenced entity once per mapping (see {@link com.univocity.api.config.builders.ReferenceMappingSetup}),
+	 *    building a map of source identifiers to destination identifiers. Each row then has its references resolved by a lookup on this map.
+	 *    Maps of identifiers composed by a single integral value use primitive {@code long} keys; other identifiers are keyed by a 64-bit hash of their values,
+	 *    which are compared in case of collisions.
+	 * <p>Maps that would exceed the limit given by {@link #getReferenceMapMemoryLimit()} are partitioned by hash, with partitions that do not fit in memory written
+	 *    to the temporary directory given by {@link EngineConfiguration#getTemporaryDirectory()}.
+	 * <p>The time spent building maps and resolving references is available from {@link EntityMappingContext#getReferenceMapBuildTime()} and
+	 *    {@link EntityMappingContext#getReferenceLookupTime()}.
+	 * <p><i>Defaults to {@code false}</i>
+	 * @return a flag indicating whether references will be resolved against in-memory maps.
+	 */
+	public final boolean isReferenceMapEnabled() {
+		return referenceMapEnabled;
+	}
+
+	/**
+	 * Defines whether references to previously mapped entities should be resolved against an in-memory map, instead of querying the metadata for each batch of rows.
+	 * Refer to {@link #isReferenceMapEnabled()} for details.
+	 * @param referenceMapEnabled a flag indicating whether references should be resolved against in-memory maps.
+	 */
+	public final void setReferenceMapEnabled(boolean referenceMapEnabled) {
+		this.referenceMapEnabled = referenceMapEnabled;
+	}
+
+	/**
+	 * Obtains the maximum amount of memory, in megabytes, used by the maps of each referenced entity before their contents are written to disk.
+	 * <p>This setting has an effect only when {@link #isReferenceMapEnabled()} evaluates to {@code true}.
+	 * <p><i>Defaults to 256 MB</i>
+	 * @return the memory limit, in megabytes, of the map built for each referenced entity.
+	 */
+	public final int getReferenceMapMemoryLimit() {
+		return referenceMapMemoryLimit;
+	}
+
+	/**
+	 * Defines the maximum amount of memory, in megabytes, used by the maps of each referenced entity before their contents are written to disk.
+	 * <p>This setting has an effect only when {@link #isReferenceMapEnabled()} evaluates to {@code true}.
+	 * @param referenceMapMemoryLimit the memory limit, in megabytes, of the map built for each referenced entity.
+	 */
+	public final void setReferenceMapMemoryLimit(int referenceMapMemoryLimit) {
+		Args.positive(referenceMapMemoryLimit, "Reference map memory limit");
+		this.referenceMapMemoryLimit = referenceMapMemoryLimit;
+	}
+
+	/**
+	 * Indicates whether uniVocity will keep a probabilistic filter (Bloom filter) of the source identifiers stored in the metadata of each entity mapping.
+	 * <p>The filter is built from the metadata at the start of each mapping cycle that executes the entity mapping, and is updated as the cycle writes new
+	 *    metadata records. It identifies, without querying the metadata, identifiers that have never been mapped. This is used to:
+	 * <ul>
+	 * 	<li>handle unmatched references immediately, according to the configured {@link com.univocity.api.config.builders.UnmatchedReferenceHandling};</li>
+	 * 	<li>identify new records when inserting with {@link com.univocity.api.config.builders.InsertionConfig#insertNewRows()}, so that only
+	 *      identifiers that might have been mapped before are looked up in the metadata.</li>
+	 * </ul>
+	 * <p>Identifiers accepted by the filter are still looked up in the metadata, so the results of a mapping are never affected by false positives.
+	 * <p>Identifiers rejected by the filter are not looked up, so the filter must contain every identifier in the metadata. Rebuilding the filter
+	 *    in each cycle ensures metadata written between cycles, by other engines or with {@link DataIntegrationEngine#importMetadata(MetadataSettings)},
+	 *    is taken into account. However, metadata written by another engine or process <i>while</i> a cycle is running is not seen by the filter:
+	 *    rows already mapped would be treated as new (and inserted again), and valid references as unmatched. <b>Only enable this setting if no other
+	 *    engine or process writes to the same metadata while this engine executes mapping cycles.</b>
+	 *    The number of lookups avoided by the filter is available from {@link EntityMappingContext#getIdentifierFilterRejections()}.
+	 * <p><i>Defaults to {@code false}</i>
+	 * @return a flag indicating whether identifier filters will be used to avoid metadata lookups.
+	 */
+	public final boolean isIdentifierFilterEnabled() {
+		return identifierFilterEnabled;
+	}
+
+	/**
+	 * Defines whether uniVocity should keep a probabilistic filter (Bloom filter) of the source identifiers stored in the metadata of each entity mapping.
+	 * Refer to {@link #isIdentifierFilterEnabled()} for details.
+	 * @param identifierFilterEnabled a flag indicating whether identifier filters should be used to avoid metadata lookups.
+	 */
+	public final void setIdentifierFilterEnabled(boolean identifierFilterEnabled) {
+		this.identifierFilterEnabled = identifierFilterEnabled;
+	}
+
+	/**
+	 * Obtains the expected rate of identifiers accepted by the identifier filter that are not actually present in the metadata.
+	 * <p>Lower rates avoid more metadata lookups, at the cost of more memory: a rate of 1% requires about 10 bits per identifier, and each
+	 *    tenfold reduction requires about 5 additional bits.
+	 * <p>This setting has an effect only when {@link #isIdentifierFilterEnabled()} evaluates to {@code true}.
+	 * <p><i>Defaults to 0.01 (1%)</i>
+	 * @return the false positive rate of the identifier filter.
+	 */
+	public final double getIdentifierFilterFalsePositiveRate() {
+		return identifierFilterFalsePositiveRate;
+	}
+
+	/**
+	 * Defines the expected rate of identifiers accepted by the identifier filter that are not actually present in the metadata.
+	 * Refer to {@link #getIdentifierFilterFalsePositiveRate()} for details.
+	 * @param identifierFilterFalsePositiveRate the false positive rate of the identifier filter, greater than 0 and less than 1.
+	 */
+	public final void setIdentifierFilterFalsePositiveRate(double identifierFilterFalsePositiveRate) {
+		if (identifierFilterFalsePositiveRate <= 0.0 || identifierFilterFalsePositiveRate >= 1.0) {
+			throw new IllegalArgumentException("Identifier filter false positive rate must be greater than 0 and less than 1. Got " + identifierFilterFalsePositiveRate);
+		}
+		this.identifierFilterFalsePositiveRate = identifierFilterFalsePositiveRate;
+	}
+
+	/**
+	 * Obtains the algorithm used to compare the identifiers read from a source entity against the identifiers stored in the metadata.
+	 * <p><i>Defaults to {@link KeyComparison#DATABASE}, or {@link KeyComparison#GRACE_HASH} if metadata is not stored in a database</i>
+	 * @return the algorithm used to identify new, existing and absent records.
+	 */
+	public final KeyComparison getKeyComparison() {
+		return keyComparison;
+	}
+
+	/**
+	 * Defines the algorithm used to compare the identifiers read from a source entity against the identifiers stored in the metadata.
+	 * Refer to {@link KeyComparison} for the available options.
+	 * <p>An {@link IllegalArgumentException} is thrown when selecting {@link KeyComparison#DATABASE} if metadata is not stored in a database (see {@link MetadataStorage}).
+	 * @param keyComparison the algorithm used to identify new, existing and absent records.
+	 */
+	public final void setKeyComparison(KeyComparison keyComparison) {
+		Args.notNull(keyComparison, "Key comparison");
+		if (keyComparison == KeyComparison.DATABASE) {
+			validateDatabaseStorage("Key comparison in the database");
+		}
+		this.keyComparison = keyComparison;
+	}
+
+	/**
+	 * Obtains the maximum amount of memory, in megabytes, used to compare identifiers before they are written to temporary files.
+	 * <p>This setting has no effect when {@link #getKeyComparison()} returns {@link KeyComparison#DATABASE}.
+	 * <p><i>Defaults to 64 MB</i>
+	 * @return the memory limit, in megabytes, for comparing identifiers.
+	 */
+	public final int getKeyComparisonMemoryLimit() {
+		return keyComparisonMemoryLimit;
+	}
+
+	/**
+	 * Defines the maximum amount of memory, in megabytes, used to compare identifiers before they are written to temporary files.
+	 * <p>This setting has no effect when {@link #getKeyComparison()} returns {@link KeyComparison#DATABASE}.
+	 * @param keyComparisonMemoryLimit the memory limit, in megabytes, for comparing identifiers.
+	 */
+	public final void setKeyComparisonMemoryLimit(int keyComparisonMemoryLimit) {
+		Args.positive(keyComparisonMemoryLimit, "Key comparison memory limit");
+		this.keyComparisonMemoryLimit = keyComparisonMemoryLimit;
+	}
 }
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.config;
+
+import java.util.*;
+
+import com.univocity.api.engine.*;
+import com.univocity.api.entity.jdbc.*;
+
+/**
+ * User provided storage mechanism for uniVocity metadata, used in place of the metadata tables of a JDBC database.
+ *
+ * <p>uniVocity provides an embedded, file-based implementation, enabled with {@link MetadataSettings#MetadataSettings(java.io.File)}.
+ *    Implement this interface to store metadata elsewhere, and provide it using {@link MetadataSettings#MetadataSettings(MetadataStorage)}.
+ *
+ * <p>The <code>MetadataStorage</code> instance will have its {@link #initialize()} method invoked when a {@link DataIntegrationEngine} that uses it
+ *    is started. A call to {@link #deactivate()} is made when the engine is shut down.
+ *
+ * <p>Records and checkpoints written or removed during a mapping cycle must only become visible to other engines after {@link #commit()} is invoked.
+ *    A call to {@link #rollback()} must discard any changes made since the last commit.
+ *
+ * <p>Some features of uniVocity depend on queries executed against the metadata tables of a database, and are not available with a <code>MetadataStorage</code>:
+ * <ul>
+ * 	<li>{@link MetadataSettings#setDatabaseChangeDetectionEnabled(boolean)}: fingerprints are always compared in memory.</li>
+ * 	<li>{@link KeyComparison#DATABASE}: identifiers are compared with {@link KeyComparison#GRACE_HASH} by default. {@link KeyComparison#EXTERNAL_SORT}
+ * 		can be used if records are returned by {@link #readRecords(String, String)} in source identifier order.</li>
+ * </ul>
+ * <p>Attempting to enable these features in {@link MetadataSettings} constructed with a <code>MetadataStorage</code>, or with a storage directory, produces an {@link IllegalArgumentException}.
+ *
+ * @see MetadataSettings
+ * @see MetadataRecord
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public interface MetadataStorage {
+
+	/**
+	 * Initializes the metadata storage. This is invoked when a {@link DataIntegrationEngine} that uses this storage is started.
+	 */
+	public void initialize();
+
+	/**
+	 * Deactivates the metadata storage. This is invoked when the {@link DataIntegrationEngine} that uses this storage is shut down.
+	 */
+	public void deactivate();
+
+	/**
+	 * Reads all records associating the given source and destination entities.
+	 * <p>uniVocity invokes {@link MetadataReader#close()} on the returned reader once it stops reading, so any files or connections used to read
+	 *    the records can be released.
+	 * @param source the name of the source entity, or {@code null} to read records of any source entity.
+	 * @param destination the name of the destination entity, or {@code null} to read records of any destination entity.
+	 * @return a {@link MetadataReader} that reads the matching metadata records.
+	 */
+	public MetadataReader readRecords(String source, String destination);
+
+	/**
+	 * Reads the records associating the given source and destination entities that match the given source identifiers.
+	 * @param source the name of the source entity
+	 * @param destination the name of the destination entity
+	 * @param sourceIds the identifiers of the source records to read.
+	 * @return the records matching the given source identifiers. Identifiers without metadata are omitted.
+	 */
+	public List<MetadataRecord> readBySourceIds(String source, String destination, Collection<String> sourceIds);
+
+	/**
+	 * Reads the records associating the given source and destination entities that match the given destination identifiers.
+	 * @param source the name of the source entity
+	 * @param destination the name of the destination entity
+	 * @param destinationIds the identifiers of the destination records to read.
+	 * @return the records matching the given destination identifiers. Identifiers without metadata are omitted.
+	 */
+	public List<MetadataRecord> readByDestinationIds(String source, String destination, Collection<String> destinationIds);
+
+	/**
+	 * Writes metadata records, replacing any existing record with the same source, destination, source identifier and destination identifier.
+	 * @param records the records to write.
+	 */
+	public void writeRecords(Collection<MetadataRecord> records);
+
+	/**
+	 * Removes metadata records with the same source, destination, source identifier and destination identifier of the given records.
+	 * @param records the records to remove.
+	 */
+	public void removeRecords(Collection<MetadataRecord> records);
+
+	/**
+	 * Removes the records associating the given source and destination entities that have been superseded by later mapping cycles, i.e. records whose
+	 * batch identifier is older than the most recent batch identifier of the records with the same source identifier.
+	 * <p>This is invoked by {@link DataIntegrationEngine#compactMetadata()}, and when the interval given by {@link MetadataSettings#getCompactionInterval()} elapses.
+	 * @param source the name of the source entity
+	 * @param destination the name of the destination entity
+	 * @return the number of records removed.
+	 */
+	public long removeSupersededRecords(String source, String destination);
+
+	/**
+	 * Reads the checkpoint of an interrupted read of the given source entity, stored when mapping to the given destination entity
+	 * (see {@link JdbcEntityConfiguration#setReadCheckpointEnabled(boolean)}).
+	 * @param source the name of the source entity
+	 * @param destination the name of the destination entity
+	 * @return the identifier of the last row read before the interruption, or {@code null} if there is no checkpoint.
+	 */
+	public String readCheckpoint(String source, String destination);
+
+	/**
+	 * Writes the checkpoint of a read of the given source entity, replacing any existing checkpoint of the same source and destination entities.
+	 * @param source the name of the source entity
+	 * @param destination the name of the destination entity
+	 * @param lastId the identifier of the last row read.
+	 * @param batchId the identifier of the mapping cycle that is reading the source entity.
+	 */
+	public void writeCheckpoint(String source, String destination, String lastId, long batchId);
+
+	/**
+	 * Removes the checkpoint of the given source and destination entities. This is invoked once all rows of the source entity have been read.
+	 * @param source the name of the source entity
+	 * @param destination the name of the destination entity
+	 */
+	public void removeCheckpoint(String source, String destination);
+
+	/**
+	 * Makes all records written and removed since the last commit permanent.
+	 */
+	public void commit();
+
+	/**
+	 * Discards all records written and removed since the last commit.
+	 */
+	public void rollback();
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.config;
+
+import com.univocity.api.entity.jdbc.*;
+
+/**
+ * The <code>MetadataTableLayout</code> enumeration provides options to determine how metadata records of different mappings are organized in the metadata database.
+ *
+ * <p>Metadata lookups are always restricted to the source and destination entities of the mapping being executed. When all mappings share a single
+ *    table, these lookups become slower as the table grows. The other layouts keep the metadata of each destination entity apart, so the cost of a lookup
+ *    depends only on the volume of metadata of the entity being mapped.
+ *
+ * <p>The names of the tables and partitions created for each destination entity are derived from the entity name, which may contain characters that
+ *    are not valid in SQL identifiers (e.g. {@code customers.csv}). Names are produced as follows:
+ * <ol>
+ * 	<li>every character other than an ASCII letter, digit or underscore is replaced by an underscore;</li>
+ * 	<li>if any character was replaced, an underscore and the first 8 hexadecimal digits of a hash of the original entity name are appended, so that entity names
+ * 		that only differ in replaced characters (e.g. {@code customers.csv} and {@code customers_csv}) produce different names;</li>
+ * 	<li>names exceeding the length allowed by the database are truncated, leaving room for the hash suffix, which is then appended if not already present.</li>
+ * </ol>
+ * <p>Entity names used as partition values are not sanitized. As DDL statements can't have parameters, they are written as SQL string literals,
+ *    with single quotes escaped by doubling them.
+ *
+ * @see MetadataSettings#setMetadataTableLayout(MetadataTableLayout)
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public enum MetadataTableLayout {
+
+	/**
+	 * All metadata records are stored in the table given by {@link MetadataSettings#getMetadataTableName()}.
+	 */
+	SHARED_TABLE,
+
+	/**
+	 * All metadata records are stored in the table given by {@link MetadataSettings#getMetadataTableName()}, which must be partitioned by list on the
+	 * {@code destination} column using the native partitioning of the database. uniVocity adds a partition for each destination entity before
+	 * mapping to it for the first time.
+	 *
+	 * <p>An {@link com.univocity.api.exception.IllegalConfigurationException} will be thrown when the engine starts if the metadata database does not
+	 * support list partitioning (see {@link DatabaseDialect#isListPartitioningSupported()}).
+	 */
+	PARTITIONED_TABLE,
+
+	/**
+	 * The metadata records of each destination entity are stored in a separate table, created automatically by uniVocity along with the equivalent of the
+	 * indexes recommended for the metadata table (see {@link MetadataSettings#getRecommendedIndexes(DatabaseDialect)}). Each table is named after the metadata table name, followed by an underscore
+	 * and the name of the destination entity, sanitized as described in the documentation of this class (e.g. {@code univocity_metadata_customers_csv_1a2b3c4d}).
+	 *
+	 * <p>The table given by {@link MetadataSettings#getMetadataTableName()} is not used with this layout.
+	 */
+	TABLE_PER_ENTITY
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.config;
+
+import com.univocity.api.config.builders.*;
+
+/**
+ * The <code>RowFingerprint</code> enumeration provides the options of hash sizes used by uniVocity to identify changes in records mapped with metadata
+ * (see {@link PersistenceSetup#usingMetadata()}).
+ *
+ * <p>A fingerprint is computed from the mapped source values of each destination row and stored in the {@code source_hash} column of the metadata table.
+ *    In subsequent cycles, a record is considered modified if the fingerprint of its mapped values differs from the stored fingerprint.
+ *    Larger fingerprints reduce the probability of distinct values producing the same fingerprint, which would make a modification go undetected.
+ *
+ * <p>The type of the {@code source_hash} and {@code destination_hash} columns of the metadata table must match the selected fingerprint.
+ *
+ * @see MetadataSettings#setRowFingerprint(RowFingerprint)
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public enum RowFingerprint {
+
+	/**
+	 * A 32-bit fingerprint, stored as an {@code INTEGER}. This is compatible with metadata tables created by previous versions of uniVocity.
+	 */
+	HASH_32,
+
+	/**
+	 * A 64-bit fingerprint, stored as a {@code BIGINT}.
+	 */
+	HASH_64,
+
+	/**
+	 * A 128-bit fingerprint, stored as a {@code CHAR(32)} containing its hexadecimal representation.
+	 */
+	HASH_128
+}
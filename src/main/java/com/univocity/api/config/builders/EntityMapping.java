@@ -82,6 +82,33 @@ public interface EntityMapping {
 	 */
 	public ReferenceMappingSetup reference();
 
+	/**
+	 * Configures conditions on the values of the source entity, so that only rows satisfying all conditions are mapped.
+	 * <p>Unlike discarding rows with {@link RowMappingContext#discardRow()}, filters are applied as early as possible:
+	 * <ul>
+	 * 	<li>for JDBC entities, filters are translated into the {@code WHERE} clause of the statement that selects rows. Filters are applied in memory
+	 * 		to rows read from queries and from statements produced by a custom {@link com.univocity.api.entity.jdbc.SqlProducer};</li>
+	 * 	<li>for text entities, filters are applied by the parser as soon as the values of the filtered fields are parsed, and the remaining values of
+	 * 		rejected rows are skipped;</li>
+	 * 	<li>for custom entities that implement {@link FilterableReadableEntity}, filters are provided to the entity
+	 * 		when reading starts.</li>
+	 * </ul>
+	 * <p>Rows rejected by filters are not provided to any {@link RowReader}.
+	 * <p>Filters define the subset of the source entity handled by this mapping. Rows rejected by filters are not read, so when records are excluded with
+	 *    {@link ExclusionWithMetadata#deleteAbsent()}, destination records mapped from rows that no longer satisfy the filters are considered absent and are
+	 *    deleted, just as if the source rows had been removed. This is intended: the destination keeps only the records of rows accepted by the filters.
+	 *    Use {@link ExclusionWithMetadata#deleteDisabled()} to keep these records.
+	 * <p>The fields used by filters are always parsed from text entities, even if they are not used otherwise by the mapping
+	 *    (see {@link com.univocity.api.entity.text.TextEntityConfiguration#setColumnProjectionEnabled(boolean)}).
+	 *
+	 * <hr><blockquote><pre>
+	 *  mapping.filterRows().where("status").isEqualTo("A");
+	 * </pre></blockquote><hr>
+	 *
+	 * @return the row filter builder that exposes the conditions available to select rows of the source entity.
+	 */
+	public RowFilterSetup filterRows();
+
 	/**
 	 * Configures the persistence settings used by this {@link EntityMapping}
 	 * @return the persistence settings builder that exposes the available configuration options for this entity mapping.
@@ -46,8 +46,21 @@ public interface ExclusionWithMetadata extends ExclusionWithoutMetadata {
 	 *  <li>With this information, uniVocity will get the identifiers in the destination entity that will be deleted, and these rows will be removed.</li>
 	 * </ul>
 	 *
+	 * <p>The algorithm used to compare the identifiers of the source entity against the metadata can be selected with {@link MetadataSettings#setKeyComparison(KeyComparison)}.
+	 *
 	 * <p><i><b>Note: </b>This only affects those records that have not been flagged as disabled for updates using {@link DataIntegrationEngine#disableUpdateOnRecords(String, Dataset)}.</i>
 	 *
+	 * <p>Absent records can only be identified when all records of the source entity are read. No records are removed in cycles that read only part of the source:
+	 * <ul>
+	 * 	<li>cycles that resume reading a JDBC entity from a checkpoint (see {@link com.univocity.api.entity.jdbc.JdbcEntityConfiguration#setReadCheckpointEnabled(boolean)}).
+	 * 		Absent records are removed by the next cycle that reads the entity from the beginning.</li>
+	 * 	<li>cycles that read only the records appended to text files (see {@link com.univocity.api.entity.text.TextEntityConfiguration#setTailReadingEnabled(boolean)}).
+	 * 		As no cycle reads these entities in full, an {@link com.univocity.api.exception.IllegalConfigurationException} is thrown when the engine starts
+	 * 		if this option is used by a mapping that reads from such an entity.</li>
+	 * </ul>
+	 * <p>Source rows rejected by the filters of the mapping (see {@link EntityMapping#filterRows()}) are not read, and their destination records are
+	 *    considered absent and removed.
+	 *
 	 * @return the next step of this configuration: determine how to update records in the destination entity.
 	 */
 	public UpdateWithMetadata deleteAbsent();
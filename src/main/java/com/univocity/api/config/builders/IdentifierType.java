@@ -6,6 +6,7 @@
 package com.univocity.api.config.builders;
 
 import com.univocity.api.engine.*;
+import com.univocity.api.entity.jdbc.*;
 
 /**
  * The <code>IdentifierType</code> configuration is obtained from a  {@link IdentifierMappingSetup} using {@link IdentifierMappingSetup#associate(String...)}.
@@ -28,6 +29,10 @@ import com.univocity.api.engine.*;
  *  mapping.reference().using("number", "seq").referTo("source_entity", "referred_entity").on("id");
  * </pre></blockquote><hr>
  *
+ * <p>Generated identifiers are usually read back from the destination after insertion. JDBC destination entities can instead have their identifiers
+ * assigned before insertion, from blocks reserved in a sequence or hi/lo table (see {@link JdbcEntityConfiguration#preallocateKeysUsingSequence(String, String, int)}
+ * and {@link JdbcEntityConfiguration#preallocateKeysUsingHiLoTable(String, String, String, int)}).
+ *
  * @see FieldMappingSetup
  * @see FunctionCall
  *
@@ -25,6 +25,9 @@ public interface InsertionConfig extends InsertionAfterUpdate {
 	/**
 	 * Configures the {@link EntityMapping} to insert new records, mapped from the source entity, into the destination entity.
 	 *
+	 * <p>When mapping with metadata, the identifiers of new records can be detected without querying the metadata
+	 *    if {@link com.univocity.api.config.MetadataSettings#setIdentifierFilterEnabled(boolean)} is enabled.
+	 *
 	 * <p><i>This completes the configuration started with {@link EntityMapping#persistence()} </i>
 	 */
 	public void insertNewRows();
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.config.builders;
+
+import com.univocity.api.entity.*;
+
+/**
+ * The <code>RowFilterCondition</code> configuration is obtained from a {@link RowFilterSetup} using {@link RowFilterSetup#where(String)}.
+ * It defines the condition the value of a source field must satisfy for its row to be mapped.
+ *
+ * <p>Each method of this interface completes the configuration started with {@link EntityMapping#filterRows()}, adding a {@link FieldFilter} to the mapping.
+ *    Refer to {@link FieldFilter} for details on how filter values are compared against the values of the source field.
+ *
+ * @see RowFilterSetup
+ * @see FilterOperator
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public interface RowFilterCondition {
+
+	/**
+	 * Accepts rows where the selected field is equal to the given value.
+	 * @param value the value the field must be equal to. Use {@link #isNull()} to accept rows where the field is null.
+	 */
+	public void isEqualTo(Object value);
+
+	/**
+	 * Accepts rows where the selected field is not null and differs from the given value.
+	 * @param value the value the field must differ from. Use {@link #isNotNull()} to accept rows where the field is not null.
+	 */
+	public void isNotEqualTo(Object value);
+
+	/**
+	 * Accepts rows where the selected field is equal to any of the given values.
+	 * @param values the values accepted for the field. These can't be {@code null}.
+	 */
+	public void isIn(Object... values);
+
+	/**
+	 * Accepts rows where the selected field is null.
+	 */
+	public void isNull();
+
+	/**
+	 * Accepts rows where the selected field is not null.
+	 */
+	public void isNotNull();
+}
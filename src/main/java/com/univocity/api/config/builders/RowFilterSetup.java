@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.config.builders;
+
+import com.univocity.api.entity.*;
+
+/**
+ * The <code>RowFilterSetup</code> configuration is obtained from an {@link EntityMapping} using {@link EntityMapping#filterRows()}.
+ * It is used to select which rows of the source entity should be mapped, using conditions on the values of its fields.
+ *
+ * <p>Example:
+ *
+ * <hr><blockquote><pre>
+ * //Maps only active customers of the given regions
+ *
+ *  mapping.filterRows().where("status").isEqualTo("A");
+ *  mapping.filterRows().where("region").isIn("NSW", "VIC");
+ * </pre></blockquote><hr>
+ *
+ * @see EntityMapping
+ * @see FieldFilter
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public interface RowFilterSetup {
+
+	/**
+	 * Selects the field of the source entity whose value will be compared.
+	 * @param sourceField the name of a field in the source entity.
+	 * @return the next step of this configuration: define the condition the field value must satisfy.
+	 */
+	public RowFilterCondition where(String sourceField);
+}
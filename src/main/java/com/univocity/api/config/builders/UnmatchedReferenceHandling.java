@@ -36,6 +36,9 @@ import com.univocity.api.exception.*;
  *
  * <p>This configuration class provides some options for handling like this.</p>
  *
+ * <p>References that were never mapped can be identified without querying the metadata, if
+ * {@link com.univocity.api.config.MetadataSettings#setIdentifierFilterEnabled(boolean)} is enabled.</p>
+ *
  * @see ReferenceMappingSetup
  * @see FunctionCall
  * @see DataIntegrationEngine
@@ -30,6 +30,9 @@ public interface UpdateWithMetadata extends UpdateWithoutMetadata {
 	 *
 	 * <p><i>Records flagged as disabled for updates (using {@link DataIntegrationEngine#disableUpdateOnRecords(String, Dataset)}) will remain unchanged. </i>
 	 *
+	 * <p>By default, all mapped fields of a modified record are updated. JDBC entities can be configured to update only the columns that have changed
+	 *    using {@link com.univocity.api.entity.jdbc.JdbcEntityConfiguration#setPartialUpdatesEnabled(boolean)}.
+	 *
 	 * @return the next step of this configuration: configure insertion of new records into the destination entity.
 	 */
 	public InsertionWithMetadata updateModified();
@@ -405,6 +405,59 @@ public interface DataIntegrationEngine {
 	 */
 	public void executeCycle(Transactions transactionConfig, DataIncrement increment, String... destinationEntities);
 
+	/**
+	 * Closes and discards all prepared statements cached for the given data store (see {@link com.univocity.api.entity.jdbc.JdbcDataStoreConfiguration#setStatementCacheSize(int)}).
+	 * <p>Use this method after modifying the structure of tables in the data store outside of uniVocity, so that statements prepared against the
+	 * previous structure are not reused.</p>
+	 *
+	 * @param dataStoreName name of the data store whose cached statements should be discarded.
+	 */
+	public void clearStatementCache(String dataStoreName);
+
+	/**
+	 * Discards the read offsets stored for text entities with tail reading enabled (see {@link com.univocity.api.entity.text.TextEntityConfiguration#setTailReadingEnabled(boolean)}),
+	 * so that their files are read again from the beginning in the next mapping cycle.
+	 * <p>This method must not be invoked while a mapping cycle is being executed.</p>
+	 *
+	 * @param dataStoreName name of the data store whose entities should be read from the beginning.
+	 * @param entityNames names of the entities whose offsets should be discarded. If no names are provided, the offsets of all entities of the data store are discarded.
+	 */
+	public void resetReadOffsets(String dataStoreName, String... entityNames);
+
+	/**
+	 * Removes obsolete records from the metadata tables configured in {@link MetadataSettings}. This includes:
+	 * <ul>
+	 *  <li>metadata of destination records that have been removed by uniVocity;</li>
+	 *  <li>metadata superseded by later mapping cycles, i.e. records whose {@code batch_id} is older than the most recent {@code batch_id} recorded for the
+	 *  same {@code source}, {@code destination} and {@code source_id}. These associate a source record with destination records it no longer maps to;</li>
+	 *  <li>temporary data left in the temporary table by mapping cycles that have been aborted.</li>
+	 * </ul>
+	 * <p>Records are removed in batches, each one committed separately, so the metadata tables are not locked for the entire operation.
+	 *    Compaction can also be executed periodically with {@link MetadataSettings#setCompactionInterval(int)}.</p>
+	 * <p>This method must not be invoked while a mapping cycle is being executed.</p>
+	 */
+	public void compactMetadata();
+
+	/**
+	 * Copies all metadata records managed by this engine to another metadata storage, e.g. from the embedded metadata storage to the metadata tables of a database.
+	 * <p>Records are written in the layout and with the settings of the target configuration. Existing records in the target with the same
+	 *    source, destination and identifiers are replaced.</p>
+	 * <p>This method must not be invoked while a mapping cycle is being executed.</p>
+	 *
+	 * @param target the settings of the metadata storage that will receive the metadata records of this engine.
+	 */
+	public void exportMetadata(MetadataSettings target);
+
+	/**
+	 * Copies all metadata records from another metadata storage into the metadata storage of this engine, e.g. from the metadata tables of a database
+	 * into the embedded metadata storage.
+	 * <p>Existing records with the same source, destination and identifiers are replaced.</p>
+	 * <p>This method must not be invoked while a mapping cycle is being executed.</p>
+	 *
+	 * @param origin the settings of the metadata storage whose records will be copied into the metadata storage of this engine.
+	 */
+	public void importMetadata(MetadataSettings origin);
+
 	/**
 	 * Get an accessible data entity which provides direct access to the underlying data store.
 	 * @param entityName the name of a data entity managed by this {@code DataIntegrationEngine}
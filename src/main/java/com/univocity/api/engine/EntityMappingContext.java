@@ -5,6 +5,9 @@
  ******************************************************************************/
 package com.univocity.api.engine;
 
+import com.univocity.api.config.*;
+import com.univocity.api.entity.jdbc.*;
+
 /**
  * The <code>EntityMappingContext</code> is available to {@link RowReader} instances used during the execution of a data mapping between two entities.
  *
@@ -79,4 +82,76 @@ public interface EntityMappingContext {
 	 * @return true if the current mapping has been skipped; false otherwise
 	 */
 	public boolean isEntityMappingSkipped();
+
+	/**
+	 * Returns the number of rows currently sent to the destination entity in each batch.
+	 * <p>If the destination entity is configured to adjust its batch size automatically (e.g. with {@link JdbcEntityConfiguration#setAdaptiveBatchSizeEnabled(boolean)}),
+	 *    this reflects the batch size uniVocity has converged to so far. When read at the end of a mapping (in {@link EngineLifecycleInterceptor#mappingCompleted(EngineLifecycleContext)}),
+	 *    this value can be used to pin the batch size of the entity with {@link JdbcEntityConfiguration#setBatchSize(int)}.
+	 * @return the current batch size used to persist rows into the destination entity, or -1 if the destination entity does not support batching.
+	 */
+	public int getCurrentBatchSize();
+
+	/**
+	 * Returns the number of metadata rows currently persisted in each batch by the current mapping.
+	 * <p>If the metadata batch size is adjusted automatically (see {@link MetadataSettings#setAdaptiveBatchSizeEnabled(boolean)}),
+	 *    this reflects the batch size uniVocity has converged to so far. When read at the end of a mapping (in {@link EngineLifecycleInterceptor#mappingCompleted(EngineLifecycleContext)}),
+	 *    this value can be used to pin the metadata batch size with {@link MetadataSettings#setBatchSize(int)}.
+	 * @return the current batch size used to persist metadata rows, or -1 if the mapping does not use metadata or the metadata storage does not support batching.
+	 */
+	public int getCurrentMetadataBatchSize();
+
+	/**
+	 * Returns the number of statements executed by the current mapping that were reused from the statement cache of their data store.
+	 * <p>Together with {@link #getStatementCacheMisses()}, this can be used to compute the hit ratio of the cache configured with
+	 *    {@link JdbcDataStoreConfiguration#setStatementCacheSize(int)}.
+	 * @return the number of statements obtained from the statement cache, or 0 if no statement cache is used.
+	 */
+	public long getStatementCacheHits();
+
+	/**
+	 * Returns the number of statements that had to be prepared by the current mapping as they were not available in the statement cache of their data store.
+	 * @return the number of statements prepared when the statement cache was used, or 0 if no statement cache is used.
+	 */
+	public long getStatementCacheMisses();
+
+	/**
+	 * Returns the time spent by the current mapping building the in-memory maps used to resolve references (see {@link MetadataSettings#setReferenceMapEnabled(boolean)}).
+	 * @return the time, in milliseconds, spent loading the identifiers of referenced entities, or 0 if references are not resolved against in-memory maps.
+	 */
+	public long getReferenceMapBuildTime();
+
+	/**
+	 * Returns the number of references resolved by the current mapping.
+	 * <p>Together with {@link #getReferenceLookupTime()}, this can be used to compute the rate at which references are resolved.
+	 * @return the number of reference lookups executed by the current mapping.
+	 */
+	public long getReferenceLookups();
+
+	/**
+	 * Returns the time spent by the current mapping resolving references, excluding the time given by {@link #getReferenceMapBuildTime()}.
+	 * @return the time, in milliseconds, spent resolving references.
+	 */
+	public long getReferenceLookupTime();
+
+	/**
+	 * Returns the number of metadata lookups avoided by the current mapping because the identifier filter determined the identifiers were never mapped
+	 * (see {@link MetadataSettings#setIdentifierFilterEnabled(boolean)}).
+	 * @return the number of lookups avoided by the identifier filter, or 0 if no identifier filter is used.
+	 */
+	public long getIdentifierFilterRejections();
+
+	/**
+	 * Returns the number of values skipped while reading the source entity of the current mapping, as their fields are not used by the mapping
+	 * (see {@link com.univocity.api.entity.text.TextEntityConfiguration#setColumnProjectionEnabled(boolean)}).
+	 * @return the number of values skipped by the reader of the source entity, or 0 if the source entity reads all fields.
+	 */
+	public long getSkippedFields();
+
+	/**
+	 * Indicates whether the source entity of the current mapping was read in pages because its JDBC driver is not able to stream rows,
+	 * even though streaming was enabled (see {@link JdbcEntityConfiguration#setStreamingEnabled(boolean)}).
+	 * @return {@code true} if rows of the source entity were read in pages instead of being streamed, otherwise {@code false}.
+	 */
+	public boolean isPagedReadFallbackUsed();
 }
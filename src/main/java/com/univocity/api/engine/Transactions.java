@@ -6,6 +6,7 @@
 package com.univocity.api.engine;
 
 import com.univocity.api.entity.custom.*;
+import com.univocity.api.entity.jdbc.*;
 
 /**
  * The <code>Transactions</code> enumeration provides options to determine how transactions should be organized in a data mapping cycle.
@@ -23,7 +24,11 @@ public enum Transactions {
 	 * If one of the mappings in the cycle fail, all changes of the already executed mappings should be rolled back.
 	 *
 	 * <p><b>Note: </b> If all mappings executed and an error occurs while committing,
-	 * 					the changes already committed won't be rolled back.
+	 * 					the changes already committed won't be rolled back. This also applies to the individual transactions of destination entities
+	 * 					written by multiple connections (see {@link JdbcEntityConfiguration#setNumberOfParallelWriters(int)}).
+	 *
+	 * <p><b>Note: </b> Mappings that reference an entity written by multiple connections cannot be executed with this setting, as the rows of that entity
+	 * 					are not visible to other connections until the end of the cycle. An {@link IllegalArgumentException} will be thrown in this case.
 	 */
 	PER_CYCLE,
 
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.entity;
+
+import java.util.*;
+
+import com.univocity.api.common.*;
+import com.univocity.api.config.builders.*;
+
+/**
+ * A <code>FieldFilter</code> is a condition on the value of a single field of a source entity, defined with {@link EntityMapping#filterRows()}.
+ * Rows are only mapped if they are accepted by all filters of a mapping.
+ *
+ * <p>Filter values are compared against the values read from the source entity, before any function or transformation is applied:
+ * <ul>
+ * 	<li>Values read as text, such as the values of CSV or fixed-width files, are compared against the {@code String} representation of
+ * 		each filter value, produced by {@link String#valueOf(Object)}. For example, a filter value of {@code Integer 1} matches the text {@code "1"},
+ * 		but not {@code "01"} or {@code "1.0"}. The comparison is case sensitive.</li>
+ * 	<li>Numbers are compared by their numeric value, so {@code Integer 1} matches a {@code Long}, {@code Double} or {@code BigDecimal} value of 1.</li>
+ * 	<li>Other values are compared using {@link Object#equals(Object)}.</li>
+ * </ul>
+ * <p>Filters pushed down to a database (e.g. with {@link com.univocity.api.entity.jdbc.JdbcEntityConfiguration}) bind the filter values as statement parameters,
+ *    and rows returned are evaluated again with the rules above, so a filter accepts the same rows irrespective of the type of the source entity.
+ * <p>Filter values can't be {@code null}. Use {@link RowFilterCondition#isNull()} and {@link RowFilterCondition#isNotNull()} to filter rows by {@code null} values.
+ *
+ * @see EntityMapping#filterRows()
+ * @see com.univocity.api.entity.custom.FilterableReadableEntity
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public final class FieldFilter {
+
+	private final String fieldName;
+	private final FilterOperator operator;
+	private final Object[] values;
+
+	/**
+	 * Creates a new filter on the value of a field
+	 * @param fieldName the name of the field whose value will be compared
+	 * @param operator the comparison to perform
+	 * @param values the values the field will be compared against. These can't be {@code null}.
+	 */
+	public FieldFilter(String fieldName, FilterOperator operator, Object... values) {
+		Args.notBlank(fieldName, "Field name");
+		Args.notNull(operator, "Filter operator");
+		switch (operator) {
+			case EQUAL:
+			case NOT_EQUAL:
+				validateValues(operator, values);
+				if (values.length != 1) {
+					throw new IllegalArgumentException("Filter operator " + operator + " requires a single value. Got " + values.length);
+				}
+				break;
+			case IN:
+				validateValues(operator, values);
+				Args.notEmpty(values, "Filter values");
+				break;
+			case NULL:
+			case NOT_NULL:
+				if (values == null) {
+					values = new Object[0];
+				} else if (values.length != 0) {
+					throw new IllegalArgumentException("Filter operator " + operator + " does not accept values");
+				}
+				break;
+		}
+
+		this.fieldName = fieldName.trim();
+		this.operator = operator;
+		this.values = values.clone();
+	}
+
+	private static void validateValues(FilterOperator operator, Object[] values) {
+		if (values == null) {
+			throw new IllegalArgumentException("Filter operator " + operator + " does not accept null values. Use isNull() or isNotNull() to filter rows by null values");
+		}
+		for (Object value : values) {
+			if (value == null) {
+				throw new IllegalArgumentException("Filter operator " + operator + " does not accept null values. Use isNull() or isNotNull() to filter rows by null values");
+			}
+		}
+	}
+
+	/**
+	 * Returns the name of the field whose value is compared by this filter
+	 * @return the field name
+	 */
+	public final String getFieldName() {
+		return fieldName;
+	}
+
+	/**
+	 * Returns the comparison performed by this filter
+	 * @return the filter operator
+	 */
+	public final FilterOperator getOperator() {
+		return operator;
+	}
+
+	/**
+	 * Returns the values the field is compared against.
+	 * @return a copy of the filter values. Empty if the operator is {@link FilterOperator#NULL} or {@link FilterOperator#NOT_NULL}.
+	 */
+	public final Object[] getValues() {
+		return values.clone();
+	}
+
+	@Override
+	public String toString() {
+		return fieldName + " " + operator + " " + Arrays.toString(values);
+	}
+}
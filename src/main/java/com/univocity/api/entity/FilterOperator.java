@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.entity;
+
+/**
+ * The <code>FilterOperator</code> enumeration lists the comparisons available to filter rows read from a source entity.
+ *
+ * @see FieldFilter
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ *
+ */
+public enum FilterOperator {
+
+	/**
+	 * Accepts rows where the field value is equal to the single filter value.
+	 */
+	EQUAL,
+
+	/**
+	 * Accepts rows where the field value is not {@code null} and differs from the single filter value.
+	 */
+	NOT_EQUAL,
+
+	/**
+	 * Accepts rows where the field value is equal to any of the filter values.
+	 */
+	IN,
+
+	/**
+	 * Accepts rows where the field value is {@code null}. The filter has no values.
+	 */
+	NULL,
+
+	/**
+	 * Accepts rows where the field value is not {@code null}. The filter has no values.
+	 */
+	NOT_NULL
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2015 uniVocity Software Pty Ltd. All rights reserved.
+ * This file is subject to the terms and conditions defined in file
+ * 'LICENSE.txt', which is part of this source code package.
+ ******************************************************************************/
+package com.univocity.api.entity.custom;
+
+import com.univocity.api.config.builders.*;
+import com.univocity.api.entity.*;
+
+/**
+ * A <code>FilterableReadableEntity</code> is a {@link CustomReadableEntity} able to discard records that do not satisfy the filters of a mapping
+ * (defined with {@link EntityMapping#filterRows()}) before they are returned to uniVocity.
+ *
+ * <p>When reading from entities that implement this interface, uniVocity invokes {@link #preareToRead(String[], FieldFilter[])} instead of
+ *    {@link #preareToRead(String[])}, providing the filters of the mapping being executed.
+ *
+ * @see CustomReadableEntity
+ * @see FieldFilter
+ *
+ * @author uniVocity Software Pty Ltd - <a href="mailto:dev@univocity.com">dev@univocity.com</a>
+ */
+public interface FilterableReadableEntity extends CustomReadableEntity {
+
+	/**
+	 * Initializes a reading process in this data entity that should only return records accepted by the given filters.
+	 * <p>Implementations are not required to apply every filter: uniVocity evaluates all filters again on each record returned by the {@link ReadingProcess}.
+	 *    Filters should be applied whenever it allows the entity to avoid reading records, e.g. by translating them into a query of the underlying resource.
+	 * @param fieldNames the fields selected by uniVocity that identify what values to extract from each record in the {@link ReadingProcess}.
+	 * @param filters the conditions records must satisfy. All filters must be satisfied for a record to be accepted.
+	 * @return a {@link ReadingProcess} object is responsible for reading values for the selected fields in each record contained by this entity.
+	 */
+	public ReadingProcess preareToRead(String[] fieldNames, FieldFilter[] filters);
+}
@@ -23,6 +23,7 @@ import com.univocity.api.entity.*;
 abstract class BaseJdbcEntityConfiguration extends Configuration {
 
 	private Integer fetchSize;
+	private Boolean streamingEnabled;
 	final Map<String, DefaultEntityField> entityFields = new HashMap<String, DefaultEntityField>();
 
 	/**
@@ -58,6 +59,53 @@ abstract class BaseJdbcEntityConfiguration extends Configuration {
 		this.fetchSize = fetchSize;
 	}
 
+	/**
+	 * Indicates whether rows will be streamed from the database while reading from this entity, keeping at most {@link #getFetchSize()} rows in memory.
+	 * <p>Many JDBC drivers ignore the fetch size and load the entire {@code ResultSet} in memory unless specific conditions are met. When streaming is enabled,
+	 *    uniVocity applies the settings required by the dialect configured in {@link JdbcDataStoreConfiguration#setDialect(DatabaseDialect)}:
+	 * <ul>
+	 * 	<li><i>MySQL:</i> uses a forward-only, read-only {@code ResultSet} with a fetch size of {@link Integer#MIN_VALUE}, unless the connection
+	 * 		was configured with {@code useCursorFetch=true}, in which case the fetch size is used as is.</li>
+	 *  <li><i>PostgreSQL:</i> disables auto-commit in the connection used for reading, and uses a forward-only {@code ResultSet}.</li>
+	 *  <li><i>SQL Server:</i> uses a forward-only, read-only {@code ResultSet} with adaptive response buffering.</li>
+	 *  <li><i>Other dialects:</i> uses a forward-only, read-only {@code ResultSet} with the configured fetch size.</li>
+	 * </ul>
+	 *
+	 * <p>A driver that can't stream loads the entire {@code ResultSet} while the statement is executed, so uniVocity verifies whether the connection
+	 *    can stream <i>before</i> executing the statement, using:
+	 * <ul>
+	 * 	<li>the driver name and version reported by {@link java.sql.DatabaseMetaData#getDriverName()} and {@link java.sql.DatabaseMetaData#getDriverVersion()},
+	 * 		which must be a version known to support streaming with the settings above;</li>
+	 * 	<li>the properties of the connection URL that change how rows are fetched, such as {@code useCursorFetch} for MySQL;</li>
+	 * 	<li>the auto-commit state of the connection: PostgreSQL only streams when auto-commit is disabled, so streaming is not possible if
+	 * 		auto-commit can't be disabled in the connection used for reading.</li>
+	 * </ul>
+	 * <p>If any of these checks fails, rows of database tables with identifier fields are read in pages of {@link #getFetchSize()} rows, each page being selected
+	 *    by a separate query ordered by the identifier fields and starting after the last identifier read. Queries and tables without identifiers are read normally.
+	 *    Whether a mapping used this fallback is reported by {@link com.univocity.api.engine.EntityMappingContext#isPagedReadFallbackUsed()}.
+	 *
+	 * <p><i>Defaults to false</i>
+	 * @return a flag indicating whether rows should be streamed when reading from the configured JDBC data entity.
+	 */
+	public final boolean isStreamingEnabled() {
+		if (streamingEnabled == null) {
+			return false;
+		}
+		return streamingEnabled;
+	}
+
+	/**
+	 * Defines whether rows should be streamed from the database while reading from this entity, keeping at most {@link #getFetchSize()} rows in memory.
+	 * <p>Many JDBC drivers ignore the fetch size and load the entire {@code ResultSet} in memory unless specific conditions are met. When streaming is enabled,
+	 *    uniVocity applies the settings required by the dialect configured in {@link JdbcDataStoreConfiguration#setDialect(DatabaseDialect)}.
+	 *    Refer to {@link #isStreamingEnabled()} for details.
+	 *
+	 * @param streamingEnabled a flag indicating whether rows should be streamed when reading from the configured JDBC data entity.
+	 */
+	public final void setStreamingEnabled(boolean streamingEnabled) {
+		this.streamingEnabled = streamingEnabled;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -68,6 +116,10 @@ abstract class BaseJdbcEntityConfiguration extends Configuration {
 		if (this.fetchSize == null) {
 			this.fetchSize = defaults.getFetchSize();
 		}
+
+		if (this.streamingEnabled == null) {
+			this.streamingEnabled = defaults.isStreamingEnabled();
+		}
 	}
 
 	/**
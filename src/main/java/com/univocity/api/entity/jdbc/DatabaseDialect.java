@@ -174,4 +174,54 @@ public enum DatabaseDialect {
 	/** Unisys 2200 Relational Database (RDMS) dialect */
 	Unisys_2200;
 
+	/**
+	 * Identifies whether this dialect allows insert statements to return values generated for the inserted rows, without requiring an additional query.
+	 * This is used by {@link JdbcEntityConfiguration#retrieveGeneratedKeysUsingReturningClause(String, String...)} to select the appropriate clause:
+	 * <ul>
+	 * 	<li>PostgreSQL (8.2 onwards) and Firebird: <i>INSERT INTO table (...) VALUES (...) RETURNING id</i></li>
+	 *  <li>Oracle: <i>INSERT INTO table (...) VALUES (...) RETURNING id INTO ?</i>, executed with <i>FORALL</i> in a PL/SQL block when inserting in batch</li>
+	 *  <li>SQL Server (2005 onwards): <i>INSERT INTO table (...) OUTPUT INSERTED.id VALUES (...)</i>, or <i>MERGE ... OUTPUT</i> when inserting in batch (2008 onwards)</li>
+	 * </ul>
+	 * <p>Refer to {@link JdbcEntityConfiguration#retrieveGeneratedKeysUsingReturningClause(String, String...)} for details on how batches are sent with each dialect.
+	 * @return {@code true} if insert statements of this dialect can return generated values, otherwise {@code false}
+	 */
+	public boolean isInsertReturningSupported() {
+		switch (this) {
+			case PostgresPlus:
+			case PostgreSQL_9:
+			case PostgreSQL_8_2:
+			case Firebird:
+			case Oracle_10g:
+			case Oracle_9i:
+			case Oracle_8i:
+			case SQLServer_2005:
+			case SQLServer_2008:
+			case SQLServer_2012:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Identifies whether this dialect supports the native partitioning of tables by a list of column values. This is required by the
+	 * {@link com.univocity.api.config.MetadataTableLayout#PARTITIONED_TABLE} metadata layout, which uses the following statements to add a partition for each destination entity:
+	 * <ul>
+	 * 	<li>Oracle (9i onwards): <i>ALTER TABLE univocity_metadata ADD PARTITION p_entity VALUES ('entity')</i></li>
+	 * </ul>
+	 * <p>The partition name is produced from the entity name following the rules described in {@link com.univocity.api.config.MetadataTableLayout},
+	 *    while the entity name in the {@code VALUES} list is written as a SQL string literal, with single quotes doubled.</p>
+	 * <p>MySQL dialects are not supported: MySQL 5.0 has no partitioning and MySQL 5.1 can't partition by a list of {@code VARCHAR} values.
+	 *    As the MySQL dialects do not identify these versions, none of them is reported as supporting list partitioning.</p>
+	 * @return {@code true} if tables of this dialect can be partitioned by a list of values, otherwise {@code false}
+	 */
+	public boolean isListPartitioningSupported() {
+		switch (this) {
+			case Oracle_10g:
+			case Oracle_9i:
+				return true;
+			default:
+				return false;
+		}
+	}
 }
@@ -45,6 +45,7 @@ public final class JdbcDataStoreConfiguration extends DataStoreConfiguration {
 	private DatabaseCapabilities databaseInformation = null;
 	private final Collection<String> reservedWordsToEscape = new TreeSet<String>();
 	private IdentifierEscaper identifierEscaper = null;
+	private int statementCacheSize = 0;
 
 	/**
 	 * Creates a new JDBC data store configuration
@@ -373,6 +374,8 @@ public final class JdbcDataStoreConfiguration extends DataStoreConfiguration {
 	 * Defines the maximum number of rows loaded in memory at a time when extracting information from entities and queries in this data store.
 	 * <p>This number modifies the default fetch size in {@link #getDefaultEntityConfiguration()} and {@link #getDefaultQueryConfiguration()}.
 	 * <br>The fetch size of already configured entities and queries won't be modified.
+	 * <p><b>Note: </b> some JDBC drivers ignore the fetch size unless other conditions are met. Use {@link JdbcEntityConfiguration#setStreamingEnabled(boolean)}
+	 * to make uniVocity apply the settings required by your database.
 	 * @param rowLimit the maximum number of rows kept in memory at any given time when reading values from any entity or query of this data store.
 	 */
 	public final void setLimitOfRowsLoadedInMemory(int rowLimit) {
@@ -432,6 +435,34 @@ public final class JdbcDataStoreConfiguration extends DataStoreConfiguration {
 		return this.identifierEscaper;
 	}
 
+	/**
+	 * Obtains the maximum number of prepared statements kept open, per connection, for reuse across entity mappings and mapping cycles.
+	 * <p>When the cache is enabled, uniVocity keeps the {@link java.sql.PreparedStatement}s it creates for each connection to this data store,
+	 *    keyed by their final SQL text. This is the text produced after applying any custom {@link SqlProducer} and {@link IdentifierEscaper},
+	 *    so statements generated differently never share a cache entry. Reusing statements avoids parsing the same SQL repeatedly in the database,
+	 *    which is particularly costly when many small cycles (e.g. with a {@link com.univocity.api.data.DataIncrement}) are executed.
+	 * <p>The least recently used statements are closed once the limit is reached. All statements of a connection are closed when the connection is closed.
+	 *    Cached statements are discarded if their execution fails, and when uniVocity creates or modifies tables of this data store.
+	 *    Use {@link DataIntegrationEngine#clearStatementCache(String)} to discard them after any external schema change.
+	 * <p>The number of cache hits and misses of each mapping is available from {@link EntityMappingContext#getStatementCacheHits()} and {@link EntityMappingContext#getStatementCacheMisses()}.
+	 * <p><i>Defaults to 0 (statements are not cached)</i>
+	 * @return the maximum number of prepared statements cached per connection.
+	 */
+	public final int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	/**
+	 * Defines the maximum number of prepared statements kept open, per connection, for reuse across entity mappings and mapping cycles.
+	 * Refer to {@link #getStatementCacheSize()} for details.
+	 * <p><b>Note: </b> if the {@link DataSource} of this data store already pools prepared statements, keep this setting disabled.
+	 * @param statementCacheSize the maximum number of prepared statements cached per connection. Use 0 to disable the cache.
+	 */
+	public final void setStatementCacheSize(int statementCacheSize) {
+		Args.positiveOrZero(statementCacheSize, "Statement cache size");
+		this.statementCacheSize = statementCacheSize;
+	}
+
 	/**
 	 * Has no effect over JDBC data entities as they already support database operations.
 	 */
@@ -8,7 +8,11 @@ package com.univocity.api.entity.jdbc;
 import java.sql.*;
 
 import com.univocity.api.common.*;
+import com.univocity.api.config.*;
+import com.univocity.api.config.builders.*;
+import com.univocity.api.engine.*;
 import com.univocity.api.entity.*;
+import com.univocity.api.exception.*;
 
 /**
  * This class provides configuration options for JDBC data entities. Instances are accessible through a {@link JdbcDataStoreConfiguration} configuration object.
@@ -23,12 +27,25 @@ import com.univocity.api.entity.*;
 public final class JdbcEntityConfiguration extends BaseJdbcEntityConfiguration {
 
 	private Integer batchSize;
+	private Boolean adaptiveBatchSizeEnabled;
+	private Integer minimumBatchSize;
+	private Integer maximumBatchSize;
+	private Integer targetBatchDuration;
+	private Integer numberOfParallelWriters;
+	private Boolean keysetPaginationEnabled;
+	private Integer pageSize;
+	private Boolean readCheckpointEnabled;
+	private Boolean partialUpdatesEnabled;
 	private SqlProducer sqlProducer = null;
 	GeneratedKeyRetrieval generatedKeyRetrieval;
 	String generatedKeyColumn;
 	String[] otherGeneratedColumnsToRetrieve;
 	String trackingColumn;
 	String processIdentificationColumn;
+	String keySequence;
+	String hiLoTable;
+	String hiLoColumn;
+	int keyAllocationSize;
 	private Boolean parameterConversionEnabled = null;
 
 	enum GeneratedKeyRetrieval {
@@ -37,6 +54,9 @@ public final class JdbcEntityConfiguration extends BaseJdbcEntityConfiguration {
 		Query,
 		StringColumn,
 		NumericColumns,
+		ReturningClause,
+		Sequence,
+		HiLoTable,
 	}
 
 	/**
@@ -57,6 +77,39 @@ public final class JdbcEntityConfiguration extends BaseJdbcEntityConfiguration {
 			this.batchSize = defaults.getBatchSize();
 		}
 
+		if (this.adaptiveBatchSizeEnabled == null) {
+			this.adaptiveBatchSizeEnabled = defaults.isAdaptiveBatchSizeEnabled();
+		}
+
+		if (this.minimumBatchSize == null) {
+			this.minimumBatchSize = defaults.getMinimumBatchSize();
+			this.maximumBatchSize = defaults.getMaximumBatchSize();
+		}
+
+		if (this.targetBatchDuration == null) {
+			this.targetBatchDuration = defaults.getTargetBatchDuration();
+		}
+
+		if (this.numberOfParallelWriters == null) {
+			this.numberOfParallelWriters = defaults.getNumberOfParallelWriters();
+		}
+
+		if (this.keysetPaginationEnabled == null) {
+			this.keysetPaginationEnabled = defaults.isKeysetPaginationEnabled();
+		}
+
+		if (this.pageSize == null) {
+			this.pageSize = defaults.pageSize;
+		}
+
+		if (this.readCheckpointEnabled == null) {
+			this.readCheckpointEnabled = defaults.isReadCheckpointEnabled();
+		}
+
+		if (this.partialUpdatesEnabled == null) {
+			this.partialUpdatesEnabled = defaults.isPartialUpdatesEnabled();
+		}
+
 		if (this.parameterConversionEnabled == null) {
 			this.parameterConversionEnabled = defaults.isParameterConversionEnabled();
 		}
@@ -120,6 +173,276 @@ public final class JdbcEntityConfiguration extends BaseJdbcEntityConfiguration {
 		this.batchSize = batchSize;
 	}
 
+	/**
+	 * Indicates whether the batch size of this entity will be adjusted automatically, based on the time taken by each batch execution.
+	 * <p>When enabled, uniVocity starts with the batch size returned by {@link #getBatchSize()} and measures the duration and throughput of each
+	 *    call to {@link java.sql.Statement#executeBatch()}. The batch size is then adjusted following an additive-increase/multiplicative-decrease strategy:
+	 * <ul>
+	 * 	<li>While batches execute within the duration returned by {@link #getTargetBatchDuration()} and the number of rows persisted per second does not drop,
+	 * 		the batch size is increased by a step equal to {@link #getMinimumBatchSize()}, up to {@link #getMaximumBatchSize()}.</li>
+	 * 	<li>When a batch executes within the target duration but persists fewer rows per second than the previous batch, the batch size is kept unchanged.</li>
+	 *  <li>When a batch takes longer than the target duration, the batch size is halved, down to {@link #getMinimumBatchSize()}.</li>
+	 * </ul>
+	 * <p>If the starting batch size falls outside the limits defined with {@link #setAdaptiveBatchSizeLimits(int, int)}, it is clamped to the nearest limit.
+	 * <p>The batch size in use is available from {@link EntityMappingContext#getCurrentBatchSize()}. Once it converges, you might want to disable this setting
+	 *    and pin the value with {@link #setBatchSize(int)}.
+	 * <p>This setting has an effect only when {@link DatabaseCapabilities#isBatchSupported()} evaluates to true.
+	 * <p><i>Defaults to false</i>
+	 * @return a flag indicating whether the batch size will be adjusted automatically when persisting values into the configured JDBC data entity.
+	 */
+	public final boolean isAdaptiveBatchSizeEnabled() {
+		if (adaptiveBatchSizeEnabled == null) {
+			return false;
+		}
+		return adaptiveBatchSizeEnabled;
+	}
+
+	/**
+	 * Defines whether the batch size of this entity should be adjusted automatically, based on the time taken by each batch execution.
+	 * Refer to {@link #isAdaptiveBatchSizeEnabled()} for details.
+	 * @param adaptiveBatchSizeEnabled a flag indicating whether the batch size should be adjusted automatically.
+	 */
+	public final void setAdaptiveBatchSizeEnabled(boolean adaptiveBatchSizeEnabled) {
+		this.adaptiveBatchSizeEnabled = adaptiveBatchSizeEnabled;
+	}
+
+	/**
+	 * Obtains the smallest batch size uniVocity can use when adjusting the batch size of this entity automatically.
+	 * <p>This setting has an effect only when {@link #isAdaptiveBatchSizeEnabled()} evaluates to true.
+	 * <p><i>Defaults to 100 rows</i>
+	 * @return the lower bound of the batch size when adaptive batch sizing is enabled.
+	 */
+	public final int getMinimumBatchSize() {
+		if (minimumBatchSize == null) {
+			return 100;
+		}
+		return minimumBatchSize;
+	}
+
+	/**
+	 * Obtains the largest batch size uniVocity can use when adjusting the batch size of this entity automatically.
+	 * <p>This setting has an effect only when {@link #isAdaptiveBatchSizeEnabled()} evaluates to true.
+	 * <p><i>Defaults to 50,000 rows</i>
+	 * @return the upper bound of the batch size when adaptive batch sizing is enabled.
+	 */
+	public final int getMaximumBatchSize() {
+		if (maximumBatchSize == null) {
+			return 50000;
+		}
+		return maximumBatchSize;
+	}
+
+	/**
+	 * Defines the bounds within which uniVocity can adjust the batch size of this entity automatically.
+	 * <p>This setting has an effect only when {@link #isAdaptiveBatchSizeEnabled()} evaluates to true.
+	 * @param minimumBatchSize the lower bound of the batch size when adaptive batch sizing is enabled.
+	 * @param maximumBatchSize the upper bound of the batch size when adaptive batch sizing is enabled.
+	 */
+	public final void setAdaptiveBatchSizeLimits(int minimumBatchSize, int maximumBatchSize) {
+		Args.positive(minimumBatchSize, "Minimum batch size");
+		Args.positive(maximumBatchSize, "Maximum batch size");
+		if (minimumBatchSize > maximumBatchSize) {
+			throw new IllegalArgumentException("Minimum batch size (" + minimumBatchSize + ") cannot be greater than the maximum batch size (" + maximumBatchSize + ")");
+		}
+		this.minimumBatchSize = minimumBatchSize;
+		this.maximumBatchSize = maximumBatchSize;
+	}
+
+	/**
+	 * Obtains the maximum time, in milliseconds, a single batch execution should take when the batch size of this entity is adjusted automatically.
+	 * Batches that take longer than this will cause the batch size to be reduced.
+	 * <p>This setting has an effect only when {@link #isAdaptiveBatchSizeEnabled()} evaluates to true.
+	 * <p><i>Defaults to 1,000 milliseconds</i>
+	 * @return the target duration of each batch execution, in milliseconds.
+	 */
+	public final int getTargetBatchDuration() {
+		if (targetBatchDuration == null) {
+			return 1000;
+		}
+		return targetBatchDuration;
+	}
+
+	/**
+	 * Defines the maximum time, in milliseconds, a single batch execution should take when the batch size of this entity is adjusted automatically.
+	 * Batches that take longer than this will cause the batch size to be reduced.
+	 * <p>This setting has an effect only when {@link #isAdaptiveBatchSizeEnabled()} evaluates to true.
+	 * @param targetBatchDuration the target duration of each batch execution, in milliseconds.
+	 */
+	public final void setTargetBatchDuration(int targetBatchDuration) {
+		Args.positive(targetBatchDuration, "Target batch duration");
+		this.targetBatchDuration = targetBatchDuration;
+	}
+
+	/**
+	 * Obtains the number of connections used concurrently to persist rows into this entity.
+	 * <p>When greater than 1, uniVocity obtains this number of connections from {@link JdbcDataStoreConfiguration#getDataSource()} and distributes
+	 *    the batches of each write operation among them. Rows are partitioned by the hash of their identifier values, so the same
+	 *    record is always written by the same connection and concurrent writers won't compete for the same rows. This avoids conflicts on individual rows only:
+	 *    writers can still block each other, or deadlock, on locks held on pages, index ranges or whole tables (e.g. after lock escalation), depending on the database.
+	 *    Rows without identifier values (e.g. when inserting into tables with generated identifiers) are distributed evenly among the writers.
+	 *
+	 * <p>Each writer connection runs its own transaction. These are coordinated according to the {@link Transactions} setting of the mapping cycle:
+	 * <ul>
+	 * 	<li>{@link Transactions#PER_CYCLE}: all writer transactions are kept open until every mapping in the cycle has been executed.
+	 * 		If any writer fails, the transactions of all writers are rolled back. Otherwise they are committed one after the other.
+	 * 		Rows written by the writers are not visible to other connections until then, so a later mapping of the same cycle that references this entity
+	 * 		(e.g. inserting foreign keys to its rows into a child entity) would block on the uncommitted rows or fail its foreign key checks.
+	 * 		An {@link IllegalArgumentException} is thrown when a cycle is executed with {@link Transactions#PER_CYCLE} if any mapping of the cycle
+	 * 		references an entity with more than one writer. Use {@link Transactions#PER_MAPPING} for such cycles.</li>
+	 *  <li>{@link Transactions#PER_MAPPING}: the writer transactions are committed together once the mapping into this entity completes, or
+	 *  	rolled back together if any writer fails.</li>
+	 * </ul>
+	 * <p><b>Note: </b> the transactions of each writer are committed independently. If an error occurs while committing, the changes already committed
+	 * 	  by other writers won't be rolled back.
+	 * <p><i>Defaults to 1 (a single connection writes all rows)</i>
+	 * @return the number of concurrent writer connections used to persist values into the configured JDBC data entity.
+	 */
+	public final int getNumberOfParallelWriters() {
+		if (numberOfParallelWriters == null) {
+			return 1;
+		}
+		return numberOfParallelWriters;
+	}
+
+	/**
+	 * Defines the number of connections used concurrently to persist rows into this entity.
+	 * <p>When greater than 1, uniVocity obtains this number of connections from {@link JdbcDataStoreConfiguration#getDataSource()} and distributes
+	 *    the batches of each write operation among them. Rows are partitioned by the hash of their identifier values, so the same
+	 *    record is always written by the same connection and concurrent writers won't compete for the same rows. This avoids conflicts on individual rows only:
+	 *    writers can still block each other, or deadlock, on locks held on pages, index ranges or whole tables (e.g. after lock escalation), depending on the database.
+	 *    Rows without identifier values (e.g. when inserting into tables with generated identifiers) are distributed evenly among the writers.
+	 *
+	 * <p>Each writer connection runs its own transaction, coordinated according to the {@link Transactions} setting of the mapping cycle.
+	 *    Refer to {@link #getNumberOfParallelWriters()} for details.
+	 * <p>Make sure your {@link javax.sql.DataSource} is able to provide the given number of connections in addition to the connections already used by uniVocity.
+	 * @param numberOfParallelWriters the number of concurrent writer connections used to persist values into the configured JDBC data entity.
+	 */
+	public final void setNumberOfParallelWriters(int numberOfParallelWriters) {
+		Args.positive(numberOfParallelWriters, "Number of parallel writers");
+		this.numberOfParallelWriters = numberOfParallelWriters;
+	}
+
+	/**
+	 * Indicates whether rows of this entity will be read in pages, each page being selected with a separate query (keyset pagination).
+	 * <p>Instead of executing a single {@code SELECT} statement to read all rows, uniVocity orders the rows by the identifier fields of this entity
+	 *    and reads up to {@link #getPageSize()} rows at a time. Each subsequent page is selected with a condition that only matches rows whose identifier values come after
+	 *    the last identifier read in the previous page. This keeps every query short and allows interrupted reads to resume (see {@link #isReadCheckpointEnabled()}).
+	 * <p>Identifier fields are obtained from the database metadata, or from fields configured with {@link #configureField(String)}. An {@link IllegalConfigurationException}
+	 *    will be thrown if this entity has no identifier fields.
+	 * <p>The statements used to select each page can be customized with {@link SqlProducer#newFirstPageSelectStatement(String, String[], String[])} and
+	 *    {@link SqlProducer#newPageSelectStatement(String, String[], String[])}.
+	 * <p><i>Defaults to false</i>
+	 * @return a flag indicating whether rows of this entity will be read in pages ordered by its identifier fields.
+	 */
+	public final boolean isKeysetPaginationEnabled() {
+		if (keysetPaginationEnabled == null) {
+			return false;
+		}
+		return keysetPaginationEnabled;
+	}
+
+	/**
+	 * Defines whether rows of this entity should be read in pages, each page being selected with a separate query (keyset pagination).
+	 * <p>Instead of executing a single {@code SELECT} statement to read all rows, uniVocity orders the rows by the identifier fields of this entity
+	 *    and reads up to {@link #getPageSize()} rows at a time. Each subsequent page is selected with a condition that only matches rows whose identifier values come after
+	 *    the last identifier read in the previous page. This keeps every query short and allows interrupted reads to resume (see {@link #setReadCheckpointEnabled(boolean)}).
+	 * @param keysetPaginationEnabled a flag indicating whether rows of this entity should be read in pages ordered by its identifier fields.
+	 */
+	public final void setKeysetPaginationEnabled(boolean keysetPaginationEnabled) {
+		this.keysetPaginationEnabled = keysetPaginationEnabled;
+	}
+
+	/**
+	 * Obtains the maximum number of rows selected by each query when reading this entity in pages.
+	 * <p>This setting has an effect only when {@link #isKeysetPaginationEnabled()} evaluates to true.
+	 * <p><i>Defaults to the fetch size (i.e. {@link #getFetchSize()})</i>
+	 * @return the number of rows in each page read from the configured JDBC data entity.
+	 */
+	public final int getPageSize() {
+		if (pageSize == null) {
+			return getFetchSize();
+		}
+		return pageSize;
+	}
+
+	/**
+	 * Defines the maximum number of rows selected by each query when reading this entity in pages.
+	 * <p>This setting has an effect only when {@link #isKeysetPaginationEnabled()} evaluates to true.
+	 * @param pageSize the number of rows in each page read from the configured JDBC data entity.
+	 */
+	public final void setPageSize(int pageSize) {
+		Args.positive(pageSize, "Page size");
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Indicates whether the progress of reads from this entity will be saved, allowing an aborted mapping cycle to resume reading from where it stopped.
+	 * <p>When enabled, the identifier values of the last row of each page are stored in the checkpoint table configured in {@link MetadataSettings#getCheckpointTableName()}
+	 *    once the rows of the page have been mapped. If the cycle is aborted, the next cycle that maps this entity will start reading after the last checkpoint.
+	 *    The checkpoint is removed once all rows of the entity have been read.
+	 * <p><b>Important: </b>the checkpoint table is stored with the metadata (see {@link MetadataSettings}), usually in a different database than the destination,
+	 *    so the destination changes and the checkpoint can't be committed atomically. After the rows of each page have been mapped, uniVocity first commits the
+	 *    destination changes and then commits the checkpoint, irrespective of the {@link Transactions} configuration of the cycle. This has the following consequences:
+	 * <ul>
+	 * 	<li>An aborted cycle leaves the destination updated with the rows mapped until the failure.</li>
+	 * 	<li>Rows mapped after the last committed checkpoint (including rows whose destination changes were committed just before a failure to commit the checkpoint)
+	 * 		are read and mapped again when the cycle resumes. Rows are therefore mapped <i>at least once</i>, and the mapping must be idempotent, e.g. by updating
+	 * 		rows that already exist in the destination instead of inserting them again (see {@link com.univocity.api.config.builders.UpdateWithMetadata}).</li>
+	 * 	<li>A resumed cycle does not read the rows before the checkpoint, so it can't identify records absent from the source. Mappings configured with
+	 * 		{@link com.univocity.api.config.builders.ExclusionWithMetadata#deleteAbsent()} don't remove any records in a resumed cycle. Absent records are removed by
+	 * 		the next cycle that reads the entity from the beginning.</li>
+	 * </ul>
+	 * <p>This setting has an effect only when {@link #isKeysetPaginationEnabled()} evaluates to true.
+	 * <p><i>Defaults to false</i>
+	 * @return a flag indicating whether interrupted reads from this entity can be resumed.
+	 */
+	public final boolean isReadCheckpointEnabled() {
+		if (readCheckpointEnabled == null) {
+			return false;
+		}
+		return readCheckpointEnabled;
+	}
+
+	/**
+	 * Defines whether the progress of reads from this entity should be saved, allowing an aborted mapping cycle to resume reading from where it stopped.
+	 * Refer to {@link #isReadCheckpointEnabled()} for details and implications.
+	 * <p><b>Note: </b>rows are mapped at least once, and absent records are not removed by {@link com.univocity.api.config.builders.ExclusionWithMetadata#deleteAbsent()}
+	 *    in cycles that resume reading from a checkpoint.
+	 * <p>This setting has an effect only when {@link #isKeysetPaginationEnabled()} evaluates to true.
+	 * @param readCheckpointEnabled a flag indicating whether interrupted reads from this entity can be resumed.
+	 */
+	public final void setReadCheckpointEnabled(boolean readCheckpointEnabled) {
+		this.readCheckpointEnabled = readCheckpointEnabled;
+	}
+
+	/**
+	 * Indicates whether updates to this entity will modify only the columns whose values have changed.
+	 * <p>When enabled, uniVocity reads the current values of the rows to be updated, by their identifiers, and compares them against the values mapped from the source.
+	 *    Rows are then grouped by the set of columns that changed: each distinct set of columns produces an {@code UPDATE} statement that modifies only these columns,
+	 *    and rows with the same set of changes are updated in the same batch. Rows without any changed column are not updated.
+	 * <p>This reduces the size of update statements, the volume of transaction logs and the maintenance of indexes on columns that were not modified,
+	 *    at the cost of one additional query per batch of updated rows. It is most effective when combined with {@link UpdateWithMetadata#updateModified()},
+	 *    which already prevents rows whose source has not changed from being updated.
+	 * <p>If a custom {@link SqlProducer} is defined, {@link SqlProducer#newUpdateStatement(String, String[], String[])} will be invoked once for each distinct set of changed columns.
+	 * <p><i>Defaults to false</i>
+	 * @return a flag indicating whether only modified columns will be updated.
+	 */
+	public final boolean isPartialUpdatesEnabled() {
+		if (partialUpdatesEnabled == null) {
+			return false;
+		}
+		return partialUpdatesEnabled;
+	}
+
+	/**
+	 * Defines whether updates to this entity should modify only the columns whose values have changed.
+	 * Refer to {@link #isPartialUpdatesEnabled()} for details.
+	 * @param partialUpdatesEnabled a flag indicating whether only modified columns should be updated.
+	 */
+	public final void setPartialUpdatesEnabled(boolean partialUpdatesEnabled) {
+		this.partialUpdatesEnabled = partialUpdatesEnabled;
+	}
+
 	/**
 	 * Specifies auto-generated keys should be extracted using the JDBC driver's
 	 * {@link java.sql.Statement#getGeneratedKeys()} method when new rows are inserted into this entity.
@@ -132,6 +455,7 @@ public final class JdbcEntityConfiguration extends BaseJdbcEntityConfiguration {
 				<li>{@link #retrieveGeneratedKeysUsingQuery(String, String...)}</li>
 				<li>{@link #retrieveGeneratedKeysUsingStringColumn(String, String, String...)}</li>
 				<li>{@link #retrieveGeneratedKeysUsingNumericColumns(String, String, String, String...)}</li>
+				<li>{@link #retrieveGeneratedKeysUsingReturningClause(String, String...)}</li>
 			</ul>
 		</li>
 	 *  <li><i>if false:</i> insert operations will not be batched. For each row to insert, a single insert statement will be executed,
@@ -237,6 +561,116 @@ public final class JdbcEntityConfiguration extends BaseJdbcEntityConfiguration {
 		this.processIdentificationColumn = processIdentificationColumn;
 	}
 
+	/**
+	 * Specifies auto-generated keys should be returned by the insert statements themselves, using the clause supported by the database dialect.
+	 * The clause, and how each batch of rows is sent to the database, are selected automatically from the dialect configured in
+	 * {@link JdbcDataStoreConfiguration#setDialect(DatabaseDialect)} (refer to {@link DatabaseDialect#isInsertReturningSupported()}).
+	 * As {@link java.sql.Statement#executeBatch()} can't return result sets, batches are not sent with the JDBC batch API:
+	 *
+	 * <ul>
+	 * 	<li>PostgreSQL: each batch is sent as a single <i>INSERT INTO table (...) SELECT ... FROM (VALUES (..., 1), (..., 2), ...) AS v(..., pos) ORDER BY pos RETURNING</i>
+	 * 		statement, so rows are inserted in the order of the batch. <i>RETURNING</i> can't return the position of each row, as it only returns columns of the table,
+	 * 		and keys are assigned to rows in the order they are returned. <b>This relies on PostgreSQL returning rows in the order they were inserted, which is
+	 * 		the observed behaviour but is not documented by PostgreSQL.</b> An exception is thrown if the number of rows returned differs from the number of rows
+	 * 		in the batch. If this is not acceptable, use {@link #retrieveGeneratedKeysUsingNumericColumns(String, String, String, String...)} instead.</li>
+	 *  <li>Oracle: each batch is sent as a single anonymous PL/SQL block executing <i>FORALL ... INSERT ... RETURNING ... BULK COLLECT INTO</i>,
+	 *  	with arrays bound to its parameters.</li>
+	 *  <li>SQL Server 2008 onwards: each batch is sent as a single <i>MERGE ... USING (VALUES (...), (...), ...) ... OUTPUT</i> statement, which
+	 *  	outputs the position of each row in the <i>VALUES</i> list along with its generated values, as the order of rows returned by <i>OUTPUT</i> is not guaranteed.</li>
+	 *  <li>SQL Server 2005 and Firebird: multi-row statements are not supported (and <i>RETURNING</i> returns a single row in Firebird), so one
+	 *  	<i>INSERT ... OUTPUT INSERTED</i> or <i>INSERT ... RETURNING</i> statement is executed for each row. This avoids the additional tracking columns and
+	 *  	queries of other strategies, but requires one round trip per row.</li>
+	 * </ul>
+	 *
+	 * <p>Multi-row statements are split when the number of values of a batch exceeds the number of parameters the database accepts in a single
+	 *    statement (e.g. 2,100 in SQL Server).
+	 *
+	 * <p>This strategy is not enabled automatically for dialects that support it. Entities keep using {@link #retrieveGeneratedKeysUsingStatement(boolean)}
+	 *    unless this method is invoked, as the statements it produces differ from those of the other strategies.
+	 *
+	 * <p>If a custom {@link SqlProducer} is used, the insert statement it produces will be modified to include the clause.
+	 *
+	 * <p>An {@link IllegalConfigurationException} will be thrown when the data store is initialized if its dialect is not defined or does not support this strategy.
+	 *
+	 * @param generatedKeyColumn the name of the auto-generated key column of this table.
+	 * @param otherGeneratedColumnsToRetrieve the names of other columns with auto-generated values you are interested in retrieving as well.
+	 */
+	public final void retrieveGeneratedKeysUsingReturningClause(String generatedKeyColumn, String... otherGeneratedColumnsToRetrieve) {
+		Args.notBlank(generatedKeyColumn, "Generated key column name");
+		generatedKeyRetrieval = GeneratedKeyRetrieval.ReturningClause;
+		this.generatedKeyColumn = generatedKeyColumn;
+		this.otherGeneratedColumnsToRetrieve = otherGeneratedColumnsToRetrieve;
+	}
+
+	/**
+	 * Specifies keys should not be generated by the database during insertion. Instead, blocks of keys are reserved from a database sequence
+	 * and assigned by uniVocity to each row before it is added to a batch of insert operations.
+	 *
+	 * <p>This strategy performs the following sequence of operations to assign keys:
+	 * <ul>
+	 * 	<li>Obtains the next value of the sequence, which reserves a block of keys from that value (inclusive) up to the value plus the allocation size (exclusive)</li>
+	 *  <li>Assigns each key of the block to the generated key column of each new row, in order of insertion. Another block is reserved when the current one is exhausted</li>
+	 *  <li>Performs all insert operations in batch, with the generated key column included in the insert statement</li>
+	 * </ul>
+	 *
+	 * <p>As keys are known before the rows are inserted, there is no need to read them back from the database, and batching works even with JDBC drivers that can't
+	 *    return generated keys of a batch. The metadata of new rows is available immediately, so mappings to child entities can resolve references to these rows
+	 *    without waiting for the insertion to complete.
+	 *
+	 * <p><b>Important: </b>the sequence must be created with an increment equal to the given allocation size, otherwise keys of different blocks will overlap.
+	 *    Keys that are reserved but not used (e.g. when the cycle ends before the block is exhausted) are discarded, so gaps will occur. The generated key column
+	 *    must accept explicitly provided values.
+	 *
+	 * @param sequenceName the name of the database sequence used to reserve blocks of keys.
+	 * @param generatedKeyColumn the name of the key column of this table that will receive the values reserved from the sequence.
+	 * @param allocationSize the number of keys reserved with each sequence call. Must match the increment of the sequence.
+	 */
+	public final void preallocateKeysUsingSequence(String sequenceName, String generatedKeyColumn, int allocationSize) {
+		Args.notBlank(sequenceName, "Sequence name");
+		Args.notBlank(generatedKeyColumn, "Generated key column name");
+		Args.positive(allocationSize, "Key allocation size");
+		generatedKeyRetrieval = GeneratedKeyRetrieval.Sequence;
+		this.keySequence = sequenceName;
+		this.generatedKeyColumn = generatedKeyColumn;
+		this.keyAllocationSize = allocationSize;
+	}
+
+	/**
+	 * Specifies keys should not be generated by the database during insertion. Instead, blocks of keys are reserved from a "hi/lo" table
+	 * and assigned by uniVocity to each row before it is added to a batch of insert operations. Use this strategy with databases that don't support sequences.
+	 *
+	 * <p>This strategy performs the following sequence of operations to assign keys:
+	 * <ul>
+	 * 	<li>In a separate transaction, reads and increments the "hi" value stored in the given column of the hi/lo table. This table is expected to contain a single row</li>
+	 *  <li>The "hi" value read from the table reserves a block of keys, from <i>hi * allocationSize</i> (inclusive) up to <i>(hi + 1) * allocationSize</i> (exclusive)</li>
+	 *  <li>Assigns each key of the block to the generated key column of each new row, in order of insertion. Another block is reserved when the current one is exhausted</li>
+	 *  <li>Performs all insert operations in batch, with the generated key column included in the insert statement</li>
+	 * </ul>
+	 *
+	 * <p>As keys are known before the rows are inserted, there is no need to read them back from the database, and batching works even with JDBC drivers that can't
+	 *    return generated keys of a batch. The metadata of new rows is available immediately, so mappings to child entities can resolve references to these rows
+	 *    without waiting for the insertion to complete.
+	 *
+	 * <p><b>Important: </b>any other process that inserts rows into this table must reserve its keys from the same hi/lo table and use the same allocation size.
+	 *    Keys that are reserved but not used are discarded, so gaps will occur. The generated key column must accept explicitly provided values.
+	 *
+	 * @param hiLoTable the name of the table that stores the next "hi" value.
+	 * @param hiLoColumn the name of the numeric column of the hi/lo table that stores the next "hi" value.
+	 * @param generatedKeyColumn the name of the key column of this table that will receive the values reserved from the hi/lo table.
+	 * @param allocationSize the number of keys reserved with each increment of the "hi" value.
+	 */
+	public final void preallocateKeysUsingHiLoTable(String hiLoTable, String hiLoColumn, String generatedKeyColumn, int allocationSize) {
+		Args.notBlank(hiLoTable, "Hi/lo table name");
+		Args.notBlank(hiLoColumn, "Hi/lo column name");
+		Args.notBlank(generatedKeyColumn, "Generated key column name");
+		Args.positive(allocationSize, "Key allocation size");
+		generatedKeyRetrieval = GeneratedKeyRetrieval.HiLoTable;
+		this.hiLoTable = hiLoTable;
+		this.hiLoColumn = hiLoColumn;
+		this.generatedKeyColumn = generatedKeyColumn;
+		this.keyAllocationSize = allocationSize;
+	}
+
 	/**
 	 * Obtains the custom {@link SqlProducer} responsible for generating user-specific SQL statements when reading or writing data to this entity.
 	 * @return the custom {@link SqlProducer}
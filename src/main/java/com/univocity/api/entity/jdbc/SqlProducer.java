@@ -44,6 +44,44 @@ public abstract class SqlProducer {
 		return null;
 	}
 
+	/**
+	 * Creates a custom select statement for reading the first page of rows, when keyset pagination is enabled with {@link JdbcEntityConfiguration#setKeysetPaginationEnabled(boolean)}.
+	 *
+	 * @param tableName the name of the database table to be selected
+	 * @param columnNames the sequence of column names selected from the table.
+	 * @param keyColumns the sequence of identifier columns used to order rows.
+	 * <p><b>Note: </b><i>These identifiers might have been escaped.</i>
+	 * @return a custom select statement or {@code null} if the default select statement produced by uniVocity should be used.
+	 *
+	 * <p><b>Note: </b> The statement must return rows ordered by the key columns and must not contain wildcards. uniVocity limits the number of rows read
+	 *  from the statement to {@link JdbcEntityConfiguration#getPageSize()} using {@link java.sql.Statement#setMaxRows(int)}. Example:
+	 * <br><i>SELECT columnNames_1, columnNames_2 FROM tableName WHERE active = 'Y' ORDER BY keyColumns_1, keyColumns_2</i>
+	 */
+	public String newFirstPageSelectStatement(String tableName, String[] columnNames, String[] keyColumns) {
+		return null;
+	}
+
+	/**
+	 * Creates a custom select statement for reading the pages of rows after the first, when keyset pagination is enabled with {@link JdbcEntityConfiguration#setKeysetPaginationEnabled(boolean)}.
+	 * The first page is read with the statement produced by {@link #newFirstPageSelectStatement(String, String[], String[])}.
+	 *
+	 * @param tableName the name of the database table to be selected
+	 * @param columnNames the sequence of column names selected from the table.
+	 * @param keyColumns the sequence of identifier columns used to order rows and to select the next page.
+	 * <p><b>Note: </b><i>These identifiers might have been escaped.</i>
+	 * @return a custom select statement or {@code null} if the default select statement produced by uniVocity should be used.
+	 *
+	 * <p><b>Note: </b> The statement must return rows ordered by the key columns, selecting rows whose keys come after the keys of the last row read.
+	 *  As row value comparisons such as {@code (k1, k2) > (?, ?)} are not supported by all databases (e.g. SQL Server and Oracle), the condition must be expanded
+	 *  into one disjunct per key column: disjunct <i>i</i> compares the first <i>i - 1</i> key columns for equality and key column <i>i</i> with &gt;.
+	 *  uniVocity binds the values of the last row read to the wildcards in this order: the values of key columns 1 to <i>i</i> for each disjunct <i>i</i>.
+	 *  The number of rows read from the statement is limited to {@link JdbcEntityConfiguration#getPageSize()} using {@link java.sql.Statement#setMaxRows(int)}. Example:
+	 * <br><i>SELECT columnNames_1, columnNames_2 FROM tableName WHERE active = 'Y' AND (keyColumns_1 &gt; ? OR (keyColumns_1 = ? AND keyColumns_2 &gt; ?)) ORDER BY keyColumns_1, keyColumns_2</i>
+	 */
+	public String newPageSelectStatement(String tableName, String[] columnNames, String[] keyColumns) {
+		return null;
+	}
+
 	/**
 	 * Creates a custom insert statement.
 	 *
@@ -62,7 +100,8 @@ public abstract class SqlProducer {
 	/**
 	 * Creates a custom update statement
 	 * @param tableName the name of the database table that will have records updated
-	 * @param updatedColumns the sequence of column names that will have values modified
+	 * @param updatedColumns the sequence of column names that will have values modified. If {@link JdbcEntityConfiguration#setPartialUpdatesEnabled(boolean)}
+	 * is enabled, this method will be invoked for each distinct subset of columns modified in the rows being updated.
 	 * @param matchingColumns the sequence of column names that will be used to identify which records should be modified
 	 * <p><b>Note: </b><i>These identifiers might have been escaped.</i>
 	 * @return a custom update statement or {@code null} if the default update statement produced by uniVocity should be used.
@@ -10,6 +10,7 @@ import java.nio.charset.*;
 import java.util.*;
 
 import com.univocity.api.common.*;
+import com.univocity.api.engine.*;
 import com.univocity.api.entity.custom.*;
 
 /**
@@ -27,7 +28,15 @@ public abstract class TextDataStoreConfiguration<T extends TextEntityConfigurati
 	private final Map<String, WriterProvider> entityWriters = new TreeMap<String, WriterProvider>();
 	private final Map<String, FileProvider> namedEntityFiles = new TreeMap<String, FileProvider>();
 	private final Set<FileProvider> unnamedEntityFiles = new HashSet<FileProvider>();
+	private final Map<String, FileProvider> watchedDirectories = new TreeMap<String, FileProvider>();
+	private final Map<String, String> watchedFilePatterns = new TreeMap<String, String>();
+	private int directoryPollingInterval = 2000;
+	private boolean directoryPollingEnabled = false;
+	private boolean automaticCycleExecutionEnabled = true;
+	private Transactions automaticCycleTransactions = Transactions.PER_CYCLE;
+	private String[] automaticCycleDestinations;
 	private FileProvider outputDirectory;
+	private Compression outputCompression = Compression.NONE;
 
 	private final Map<String, T> entityConfigurations = new TreeMap<String, T>();
 
@@ -150,6 +159,178 @@ public abstract class TextDataStoreConfiguration<T extends TextEntityConfigurati
 		fileDirectories.add(new FileProvider(directory, encoding));
 	}
 
+	/**
+	 * Adds a read-only data entity whose records are the contents of files in a directory, watching the directory for new files and for content appended to
+	 * existing files. When changes are detected, a data mapping cycle is executed with a {@link com.univocity.api.data.DataIncrement} that
+	 * provides only the new records of this entity.
+	 * <p>Refer to {@link #watchDirectory(String, File, String, Charset)} for details.
+	 * <p><i><b>Note: </b>As the encoding of these files is not provided, the default system encoding will be used.</i>
+	 * @param entityName the name of the data entity in this data store.
+	 * @param directory the directory in the file system to be watched.
+	 */
+	public final void watchDirectory(String entityName, File directory) {
+		watchDirectory(entityName, directory, null, (Charset) null);
+	}
+
+	/**
+	 * Adds a read-only data entity whose records are the contents of files in a directory, watching the directory for new files and for content appended to
+	 * existing files. When changes are detected, a data mapping cycle is executed with a {@link com.univocity.api.data.DataIncrement} that
+	 * provides only the new records of this entity.
+	 * <p>Refer to {@link #watchDirectory(String, File, String, Charset)} for details.
+	 * @param entityName the name of the data entity in this data store.
+	 * @param directory the directory in the file system to be watched.
+	 * @param fileNamePattern a glob pattern that selects which files of the directory should be read (e.g. {@code "*.csv"}). If {@code null}, all files are read.
+	 * @param encoding the name of the encoding to be used when reading the files. If {@code null}, the default system encoding will be used.
+	 */
+	public final void watchDirectory(String entityName, File directory, String fileNamePattern, String encoding) {
+		watchDirectory(entityName, directory, fileNamePattern, encoding == null ? null : Charset.forName(encoding));
+	}
+
+	/**
+	 * Adds a read-only data entity whose records are the contents of files in a directory, watching the directory for new files and for content appended to
+	 * existing files. When changes are detected, a data mapping cycle is executed with a {@link com.univocity.api.data.DataIncrement} that
+	 * provides only the new records of this entity.
+	 * <ul>
+	 * 	<li>The directory is watched with a {@link java.nio.file.WatchService} while the engine is active. If the Java runtime or the file system does not support
+	 * 		watching, or if {@link #isDirectoryPollingEnabled()} evaluates to true, the directory is scanned at the interval given by {@link #getDirectoryPollingInterval()}.</li>
+	 * 	<li>uniVocity keeps the byte offset of the last complete record read from each file. Only the content after this offset is parsed,
+	 * 		and any incomplete record at the end of a file is parsed once its line separator is written.</li>
+	 * 	<li>Files existing in the directory when the engine starts are read in the first cycle. Offsets are advanced only after the cycle completes,
+	 * 		so records of a failed cycle are read again when the next change is detected.</li>
+	 * 	<li>Offsets are kept in memory unless tail reading is enabled in the configuration of the entity (see {@link TextEntityConfiguration#setTailReadingEnabled(boolean)}),
+	 * 		in which case they are persisted and reading resumes from them after the engine is restarted.</li>
+	 * 	<li>Cycles are executed automatically with the settings given by {@link #getAutomaticCycleTransactions()} and {@link #getAutomaticCycleDestinations()},
+	 * 		unless {@link #isAutomaticCycleExecutionEnabled()} evaluates to false.</li>
+	 * 	<li>The engine executes one cycle at a time. Changes detected while a cycle is running, either started automatically or with
+	 * 		{@link DataIntegrationEngine#executeCycle()}, are processed in a single automatic cycle executed after it completes.</li>
+	 * 	<li>Cycles started with {@link DataIntegrationEngine#executeCycle()}, or with any of its variants, read all files of the watched directory from the beginning,
+	 * 		as any other entity. Once such a cycle completes, the stored offset of each file is moved to the end of the last complete record read, so
+	 * 		automatic cycles only process content appended afterwards. If tail reading is enabled in the configuration of the entity, these cycles read
+	 * 		only the content after the stored offsets instead, just like automatic cycles.</li>
+	 * </ul>
+	 * <p>All files must have the same format. Headers are extracted from each file according to {@link TextEntityConfiguration#isHeaderExtractionEnabled()}.
+	 * @param entityName the name of the data entity in this data store.
+	 * @param directory the directory in the file system to be watched.
+	 * @param fileNamePattern a glob pattern that selects which files of the directory should be read (e.g. {@code "*.csv"}). If {@code null}, all files are read.
+	 * @param encoding the encoding to be used when reading the files. If {@code null}, the default system encoding will be used.
+	 */
+	public final void watchDirectory(String entityName, File directory, String fileNamePattern, Charset encoding) {
+		entityName = getValidatedEntityName(entityName);
+		Args.validDirectory(directory, "Watched directory");
+		watchedDirectories.put(entityName, new FileProvider(directory, encoding));
+		if (fileNamePattern == null || fileNamePattern.trim().isEmpty()) {
+			watchedFilePatterns.remove(entityName);
+		} else {
+			watchedFilePatterns.put(entityName, fileNamePattern.trim());
+		}
+	}
+
+	/**
+	 * Returns the interval, in milliseconds, between each scan of watched directories when they are not watched with a {@link java.nio.file.WatchService}.
+	 * <p><i>Defaults to 2000 milliseconds</i>
+	 * @return the polling interval of watched directories, in milliseconds.
+	 */
+	public final int getDirectoryPollingInterval() {
+		return directoryPollingInterval;
+	}
+
+	/**
+	 * Defines the interval, in milliseconds, between each scan of watched directories when they are not watched with a {@link java.nio.file.WatchService}.
+	 * @param directoryPollingInterval the polling interval of watched directories, in milliseconds.
+	 */
+	public final void setDirectoryPollingInterval(int directoryPollingInterval) {
+		Args.positive(directoryPollingInterval, "Directory polling interval");
+		this.directoryPollingInterval = directoryPollingInterval;
+	}
+
+	/**
+	 * Indicates whether watched directories will always be scanned periodically instead of using a {@link java.nio.file.WatchService}.
+	 * <p>Some file systems, such as network shares, do not report changes made by other hosts. Enable polling to watch directories in these file systems.
+	 * <p><i>Defaults to false</i>
+	 * @return true if watched directories should be scanned periodically, false otherwise
+	 */
+	public final boolean isDirectoryPollingEnabled() {
+		return directoryPollingEnabled;
+	}
+
+	/**
+	 * Defines whether watched directories should always be scanned periodically instead of using a {@link java.nio.file.WatchService}.
+	 * Refer to {@link #isDirectoryPollingEnabled()} for details.
+	 * @param directoryPollingEnabled the flag indicating whether watched directories should be scanned periodically
+	 */
+	public final void setDirectoryPollingEnabled(boolean directoryPollingEnabled) {
+		this.directoryPollingEnabled = directoryPollingEnabled;
+	}
+
+	/**
+	 * Indicates whether a data mapping cycle will be executed automatically when changes are detected in watched directories
+	 * (see {@link #watchDirectory(String, File, String, Charset)}).
+	 * <p>When disabled, no cycles are started by uniVocity. Content added to the watched files is processed by the next cycle executed with
+	 *    {@link DataIntegrationEngine#executeCycle()}, which reads the watched entity as described in {@link #watchDirectory(String, File, String, Charset)}:
+	 *    all files are read from the beginning, unless tail reading is enabled in the configuration of the entity
+	 *    (see {@link TextEntityConfiguration#setTailReadingEnabled(boolean)}).
+	 * <p><i>Defaults to true</i>
+	 * @return true if cycles should be executed automatically when watched directories change, false otherwise
+	 */
+	public final boolean isAutomaticCycleExecutionEnabled() {
+		return automaticCycleExecutionEnabled;
+	}
+
+	/**
+	 * Defines whether a data mapping cycle should be executed automatically when changes are detected in watched directories.
+	 * Refer to {@link #isAutomaticCycleExecutionEnabled()} for details.
+	 * @param automaticCycleExecutionEnabled the flag indicating whether cycles should be executed automatically when watched directories change
+	 */
+	public final void setAutomaticCycleExecutionEnabled(boolean automaticCycleExecutionEnabled) {
+		this.automaticCycleExecutionEnabled = automaticCycleExecutionEnabled;
+	}
+
+	/**
+	 * Returns the transaction configuration of cycles executed automatically when changes are detected in watched directories.
+	 * <p><i>Defaults to {@link Transactions#PER_CYCLE}</i>
+	 * @return the transaction configuration of automatic cycles.
+	 */
+	public final Transactions getAutomaticCycleTransactions() {
+		return automaticCycleTransactions;
+	}
+
+	/**
+	 * Defines the transaction configuration of cycles executed automatically when changes are detected in watched directories.
+	 * @param automaticCycleTransactions the transaction configuration of automatic cycles.
+	 */
+	public final void setAutomaticCycleTransactions(Transactions automaticCycleTransactions) {
+		Args.notNull(automaticCycleTransactions, "Automatic cycle transactions");
+		this.automaticCycleTransactions = automaticCycleTransactions;
+	}
+
+	/**
+	 * Returns the destination entities mapped by cycles executed automatically when changes are detected in watched directories.
+	 * These are provided to {@link DataIntegrationEngine#executeCycle(Transactions, com.univocity.api.data.DataIncrement, String...)}.
+	 * <p><i>Defaults to {@code null} (all mappings of the engine are executed)</i>
+	 * @return the destination entities mapped by automatic cycles.
+	 */
+	public final String[] getAutomaticCycleDestinations() {
+		return automaticCycleDestinations == null ? null : automaticCycleDestinations.clone();
+	}
+
+	/**
+	 * Defines the destination entities mapped by cycles executed automatically when changes are detected in watched directories.
+	 * Refer to {@link #getAutomaticCycleDestinations()} for details.
+	 * @param automaticCycleDestinations the destination entities mapped by automatic cycles. Use {@code null} or an empty sequence to execute all mappings.
+	 */
+	public final void setAutomaticCycleDestinations(String... automaticCycleDestinations) {
+		if (automaticCycleDestinations == null || automaticCycleDestinations.length == 0) {
+			this.automaticCycleDestinations = null;
+			return;
+		}
+		String[] destinations = new String[automaticCycleDestinations.length];
+		for (int i = 0; i < destinations.length; i++) {
+			Args.notBlank(automaticCycleDestinations[i], "Automatic cycle destination at position " + i);
+			destinations[i] = automaticCycleDestinations[i].trim();
+		}
+		this.automaticCycleDestinations = destinations;
+	}
+
 	/**
 	 * Adds a read-only data entity to this data store.
 	 *
@@ -270,6 +451,45 @@ public abstract class TextDataStoreConfiguration<T extends TextEntityConfigurati
 		namedEntityFiles.put(entityName, new FileProvider(file, encoding));
 	}
 
+	/**
+	 * Adds a compressed file to this data store. It will be used as an individual data entity for reading/writing.
+	 * <p>Use this method when the compression format can't be identified from the file name (see {@link Compression#fromFileName(String)}).
+	 * @param entityName the name of the data entity in this data store.
+	 * @param file the file to use as a data entity of this data store.
+	 * @param encoding the encoding to be used when handling the provided file.
+	 * @param compression the compression format of the provided file. If {@code null}, the format will be identified from the file name.
+	 */
+	public final void addEntity(String entityName, File file, Charset encoding, Compression compression) {
+		entityName = getValidatedEntityName(entityName);
+		namedEntityFiles.put(entityName, new FileProvider(file, encoding, compression));
+	}
+
+	/**
+	 * Adds a compressed resource to this data store. The resource path can be a file in the class path or in the file system.
+	 * It will be used as an individual data entity for reading/writing.
+	 * <p>Use this method when the compression format can't be identified from the resource path (see {@link Compression#fromFileName(String)}).
+	 * @param entityName the name of the given data entity in this data store.
+	 * @param resource the path to a resource to be used as a data entity of this data store
+	 * @param encoding the encoding to be used when handling the provided resource.
+	 * @param compression the compression format of the provided resource. If {@code null}, the format will be identified from the resource path.
+	 */
+	public final void addEntity(String entityName, String resource, Charset encoding, Compression compression) {
+		entityName = getValidatedEntityName(entityName);
+		namedEntityFiles.put(entityName, new FileProvider(resource, encoding, compression));
+	}
+
+	/**
+	 * Adds a file or resource to this data store, with the encoding and compression format given by a {@link FileProvider}.
+	 * It will be used as an individual data entity for reading/writing.
+	 * @param entityName the name of the data entity in this data store.
+	 * @param file the provider of the file or resource to use as a data entity of this data store.
+	 */
+	public final void addEntity(String entityName, FileProvider file) {
+		entityName = getValidatedEntityName(entityName);
+		Args.notNull(file, "File provider");
+		namedEntityFiles.put(entityName, file);
+	}
+
 	/**
 	 * Validates the name given to an entity and returns a trimmed copy.
 	 * @param entityName the name to be validated
@@ -385,6 +605,22 @@ public abstract class TextDataStoreConfiguration<T extends TextEntityConfigurati
 		return Collections.unmodifiableSet(unnamedEntityFiles);
 	}
 
+	/**
+	 * Returns an unmodifiable map of file providers for directories watched by entities of this data store.
+	 * @return an unmodifiable map of watched directories, keyed by entity name
+	 */
+	public final Map<String, FileProvider> getWatchedDirectories() {
+		return Collections.unmodifiableMap(watchedDirectories);
+	}
+
+	/**
+	 * Returns an unmodifiable map of glob patterns used to select the files read from watched directories.
+	 * @return an unmodifiable map of file name patterns, keyed by entity name. Entities that read all files of their directory are not included.
+	 */
+	public final Map<String, String> getWatchedFilePatterns() {
+		return Collections.unmodifiableMap(watchedFilePatterns);
+	}
+
 	/**
 	 * Creates a new configuration object for an entity of this data store.
 	 * @return new configuration object for an entity of this data store
@@ -484,4 +720,24 @@ public abstract class TextDataStoreConfiguration<T extends TextEntityConfigurati
 	public final FileProvider getOutputDirectory() {
 		return this.outputDirectory;
 	}
+
+	/**
+	 * Returns the compression format of files created in the output directory (see {@link #getOutputDirectory()}).
+	 * <p><i>Defaults to {@link Compression#NONE}</i>
+	 * @return the compression format of files created for new entities.
+	 */
+	public final Compression getOutputCompression() {
+		return outputCompression;
+	}
+
+	/**
+	 * Defines the compression format of files created in the output directory (see {@link #getOutputDirectory()}).
+	 * The content written to these files will be compressed as it is written, and their names will end with the extension of the
+	 * compression format (see {@link Compression#getExtension()}).
+	 * @param outputCompression the compression format of files created for new entities.
+	 */
+	public final void setOutputCompression(Compression outputCompression) {
+		Args.notNull(outputCompression, "Output compression");
+		this.outputCompression = outputCompression;
+	}
 }
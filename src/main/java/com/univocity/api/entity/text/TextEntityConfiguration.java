@@ -27,6 +27,15 @@ public abstract class TextEntityConfiguration<F extends TextFormat> extends Text
 
 	private int numberOfRecordsToRead = -1;
 
+	private long maximumRowsPerOutputFile = -1;
+	private long maximumBytesPerOutputFile = -1;
+	private String[] outputPartitionFields;
+	private int maximumOpenPartitions = 64;
+	private boolean manifestWritingEnabled = false;
+
+	private boolean tailReadingEnabled = false;
+	private int fileFingerprintLength = 1024;
+
 	protected TextEntityConfiguration() {
 
 	}
@@ -96,6 +105,195 @@ public abstract class TextEntityConfiguration<F extends TextFormat> extends Text
 		this.numberOfRecordsToRead = numberOfRecordsToRead;
 	}
 
+	/**
+	 * Indicates whether each mapping cycle will resume reading the file of this entity from the position where the previous cycle stopped.
+	 * This is meant for files that continuously grow, such as logs, where only the records appended since the last cycle should be processed.
+	 * <ul>
+	 * 	<li>After each cycle completes, uniVocity stores the byte offset of the last complete record read from the file, along with the identity of the file,
+	 * 		in the {@link com.univocity.api.engine.EngineScope#PERSISTENT} scope. The next cycle starts parsing from this offset, and any incomplete
+	 * 		record at the end of the file is parsed once its line separator is written. If the cycle fails, the offset is not updated.</li>
+	 * 	<li>The identity of a file is given by its file key (e.g. the inode in Unix-like systems), where available, and by a fingerprint of
+	 * 		its first bytes (see {@link #getFileFingerprintLength()}). If the identity changes, or if the file becomes smaller than the stored offset,
+	 * 		the file is considered truncated or rotated and is read again from the beginning.</li>
+	 * 	<li>Headers extracted from the beginning of the file (see {@link #isHeaderExtractionEnabled()}) are stored with the offset, so they are
+	 * 		still available when reading resumes.</li>
+	 * </ul>
+	 * <p>Cycles that resume reading don't read the records of previous cycles, so records absent from the source can't be identified. An
+	 *    {@link com.univocity.api.exception.IllegalConfigurationException} will be thrown when the engine starts if a mapping that reads from an entity
+	 *    with tail reading enabled removes absent records with {@link com.univocity.api.config.builders.ExclusionWithMetadata#deleteAbsent()}.
+	 * <p>If no {@link com.univocity.api.engine.ScopeStorageProvider} is configured, offsets are retained only while the engine is active and
+	 *    files are read from the beginning after the engine is restarted. Use
+	 *    {@link com.univocity.api.engine.DataIntegrationEngine#resetReadOffsets(String, String...)} to force files to be read again from the beginning.
+	 * <p>This setting has an effect only when the entity is read from a file. Entities of directories registered with
+	 *    {@link TextDataStoreConfiguration#watchDirectory(String, java.io.File, String, java.nio.charset.Charset)} keep the offset of each file of the directory.
+	 * <p><i>Defaults to false.</i>
+	 * @return true if reading should resume from the last record read in the previous cycle, false otherwise
+	 */
+	public boolean isTailReadingEnabled() {
+		return tailReadingEnabled;
+	}
+
+	/**
+	 * Defines whether each mapping cycle should resume reading the file of this entity from the position where the previous cycle stopped.
+	 * Refer to {@link #isTailReadingEnabled()} for details.
+	 * @param tailReadingEnabled the flag indicating whether reading should resume from the last record read in the previous cycle
+	 */
+	public void setTailReadingEnabled(boolean tailReadingEnabled) {
+		this.tailReadingEnabled = tailReadingEnabled;
+	}
+
+	/**
+	 * Returns the number of bytes at the beginning of a file used to compute its fingerprint, which identifies whether the file has been
+	 * replaced since the previous mapping cycle. Files smaller than this length are fingerprinted up to the offset stored in the previous cycle.
+	 * <p>This setting has an effect only when {@link #isTailReadingEnabled()} evaluates to true.
+	 * <p><i>Defaults to 1024.</i>
+	 * @return the number of bytes used to compute the fingerprint of a file.
+	 */
+	public int getFileFingerprintLength() {
+		return fileFingerprintLength;
+	}
+
+	/**
+	 * Defines the number of bytes at the beginning of a file used to compute its fingerprint.
+	 * Refer to {@link #getFileFingerprintLength()} for details.
+	 * @param fileFingerprintLength the number of bytes used to compute the fingerprint of a file.
+	 */
+	public void setFileFingerprintLength(int fileFingerprintLength) {
+		Args.positive(fileFingerprintLength, "File fingerprint length");
+		this.fileFingerprintLength = fileFingerprintLength;
+	}
+
+	/**
+	 * Returns the maximum number of rows written to each output file before a new file is started.
+	 * <p>When a limit is defined, records written to this entity are distributed among files named after the entity file, followed by the sequence number
+	 *    of each file (e.g. {@code customers_00001.csv}, {@code customers_00002.csv}, ...). All files are written to the directory of the entity file.
+	 * <p>Output files are only split for entities written to files (e.g. in the directory given by {@link TextDataStoreConfiguration#getOutputDirectory()}).
+	 *    A negative value indicates there's no limit.
+	 * <p><i>Defaults to -1.</i>
+	 * @return the maximum number of rows written to each output file.
+	 */
+	public long getMaximumRowsPerOutputFile() {
+		return maximumRowsPerOutputFile;
+	}
+
+	/**
+	 * Defines the maximum number of rows written to each output file before a new file is started.
+	 * Refer to {@link #getMaximumRowsPerOutputFile()} for details.
+	 * @param maximumRowsPerOutputFile the maximum number of rows written to each output file. A negative value indicates there's no limit.
+	 */
+	public void setMaximumRowsPerOutputFile(long maximumRowsPerOutputFile) {
+		if (maximumRowsPerOutputFile == 0) {
+			throw new IllegalArgumentException("Maximum number of rows per output file cannot be 0");
+		}
+		this.maximumRowsPerOutputFile = maximumRowsPerOutputFile < 0 ? -1 : maximumRowsPerOutputFile;
+	}
+
+	/**
+	 * Returns the maximum number of bytes written to each output file before a new file is started. Files are only split between records,
+	 * so files can exceed this limit by the size of the last record written to them. If the output is compressed, the limit applies to the compressed size.
+	 * <p>Output files are named as described in {@link #getMaximumRowsPerOutputFile()}. A negative value indicates there's no limit.
+	 * <p><i>Defaults to -1.</i>
+	 * @return the maximum number of bytes written to each output file.
+	 */
+	public long getMaximumBytesPerOutputFile() {
+		return maximumBytesPerOutputFile;
+	}
+
+	/**
+	 * Defines the maximum number of bytes written to each output file before a new file is started.
+	 * Refer to {@link #getMaximumBytesPerOutputFile()} for details.
+	 * @param maximumBytesPerOutputFile the maximum number of bytes written to each output file. A negative value indicates there's no limit.
+	 */
+	public void setMaximumBytesPerOutputFile(long maximumBytesPerOutputFile) {
+		if (maximumBytesPerOutputFile == 0) {
+			throw new IllegalArgumentException("Maximum number of bytes per output file cannot be 0");
+		}
+		this.maximumBytesPerOutputFile = maximumBytesPerOutputFile < 0 ? -1 : maximumBytesPerOutputFile;
+	}
+
+	/**
+	 * Returns the fields whose values determine the output file of each record written to this entity.
+	 * <p>Records with the same values for these fields are written to the same partition: a sub-directory of the directory of the entity file, named
+	 *    after each field and its value (e.g. {@code region=NSW/customers.csv}). Each partition is written by its own thread, and can be further split into
+	 *    multiple files with {@link #setMaximumRowsPerOutputFile(long)} and {@link #setMaximumBytesPerOutputFile(long)}.
+	 * <p>Partition directory names are encoded so that they can't refer to other directories, following the convention used by Hive:
+	 * <ul>
+	 * 	<li>the value is converted to {@code String}, and the characters {@code / \ : = % " ' * ? < > | #}, as well as control characters, are replaced by
+	 * 		{@code %} followed by the two-digit hexadecimal code of each of their bytes in UTF-8 (e.g. {@code a/b} becomes {@code a%2Fb}). Therefore, no directory
+	 * 		name can contain a path separator;</li>
+	 * 	<li>values consisting only of dots (such as {@code .} and {@code ..}) have each dot encoded as {@code %2E};</li>
+	 * 	<li>{@code null} and empty values are written to the directory named {@code __DEFAULT_PARTITION__} (e.g. {@code region=__DEFAULT_PARTITION__}).</li>
+	 * </ul>
+	 * <p>Field names are encoded in the same way.
+	 * <p>Output files are only partitioned for entities written to files (e.g. in the directory given by {@link TextDataStoreConfiguration#getOutputDirectory()}).
+	 * <p><i>Defaults to {@code null} (records are not partitioned).</i>
+	 * @return the sequence of fields used to partition the output of this entity.
+	 */
+	public String[] getOutputPartitionFields() {
+		return outputPartitionFields == null ? null : outputPartitionFields.clone();
+	}
+
+	/**
+	 * Defines the fields whose values determine the output file of each record written to this entity.
+	 * Refer to {@link #getOutputPartitionFields()} for details.
+	 * @param outputPartitionFields the sequence of fields used to partition the output of this entity. Use {@code null} or an empty sequence to stop partitioning the output.
+	 */
+	public void setOutputPartitionFields(String... outputPartitionFields) {
+		if (outputPartitionFields == null || outputPartitionFields.length == 0) {
+			this.outputPartitionFields = null;
+			return;
+		}
+		String[] fields = new String[outputPartitionFields.length];
+		for (int i = 0; i < fields.length; i++) {
+			Args.notBlank(outputPartitionFields[i], "Output partition field at position " + i);
+			fields[i] = outputPartitionFields[i].trim();
+		}
+		this.outputPartitionFields = fields;
+	}
+
+	/**
+	 * Returns the maximum number of partitions that can be open for writing at the same time.
+	 * <p>Once this limit is reached, the partition that has not received records for the longest time is closed, along with its writing thread.
+	 *    It will be opened again, and new records appended to it, if more records of the partition are written.
+	 * <p>This setting has an effect only when {@link #getOutputPartitionFields()} is not {@code null}.
+	 * <p><i>Defaults to 64.</i>
+	 * @return the maximum number of open partitions.
+	 */
+	public int getMaximumOpenPartitions() {
+		return maximumOpenPartitions;
+	}
+
+	/**
+	 * Defines the maximum number of partitions that can be open for writing at the same time.
+	 * Refer to {@link #getMaximumOpenPartitions()} for details.
+	 * @param maximumOpenPartitions the maximum number of open partitions.
+	 */
+	public void setMaximumOpenPartitions(int maximumOpenPartitions) {
+		Args.positive(maximumOpenPartitions, "Maximum number of open partitions");
+		this.maximumOpenPartitions = maximumOpenPartitions;
+	}
+
+	/**
+	 * Indicates whether a manifest file will be written once all records have been written to this entity.
+	 * <p>The manifest is a CSV file named after the entity file, with the {@code .manifest} extension (e.g. {@code customers.csv.manifest}),
+	 *    written to the directory of the entity file. It lists the path of each file produced, relative to this directory, along with
+	 *    the values of the partition fields, the number of rows and the number of bytes of each file.
+	 * <p><i>Defaults to false.</i>
+	 * @return true if a manifest file should be written, false otherwise
+	 */
+	public boolean isManifestWritingEnabled() {
+		return manifestWritingEnabled;
+	}
+
+	/**
+	 * Defines whether a manifest file should be written once all records have been written to this entity.
+	 * Refer to {@link #isManifestWritingEnabled()} for details.
+	 * @param manifestWritingEnabled the flag indicating whether a manifest file should be written
+	 */
+	public void setManifestWritingEnabled(boolean manifestWritingEnabled) {
+		this.manifestWritingEnabled = manifestWritingEnabled;
+	}
+
 	/**
 	 * Returns the length of each column of records returned by the data entity.
 	 * <br>This information is only used when enabling database-like operations on the entity via {@link DataStoreConfiguration#enableDatabaseOperationsIn(String...)}
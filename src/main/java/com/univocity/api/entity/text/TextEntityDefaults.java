@@ -31,6 +31,14 @@ abstract class TextEntityDefaults<F extends TextFormat> extends Configuration {
 	private Integer inputBufferSize;
 
 	private Boolean readInputOnSeparateThread;
+	private Boolean memoryMappingEnabled;
+	private Boolean vectorizedScanningEnabled;
+	private Integer numberOfParsingThreads;
+	private Boolean parsedRecordOrderPreserved;
+	private Boolean columnProjectionEnabled;
+	private Boolean writeOutputOnSeparateThread;
+	private Integer outputBufferSize;
+	private Integer outputFlushInterval;
 	private Boolean ignoreTrailingWhitespaces;
 	private Boolean ignoreLeadingWhitespaces;
 	private Boolean headerExtractionEnabled;
@@ -159,7 +167,8 @@ abstract class TextEntityDefaults<F extends TextFormat> extends Configuration {
 	 *  <li><i>When disabled</i>, the parsing process will briefly pause so the buffer can be replenished every time it is exhausted.
 	 *  	<br>This setting can be slightly more efficient when the input is small.</li>
 	 * </ul>
-	 *  <i>Defaults to true if the number of available processors at runtime is greater than 1</i>
+	 *  <p>This only moves the reading of the input to a separate thread. To parse a single file using multiple threads, use {@link #setNumberOfParsingThreads(int)}.
+	 *  <p><i>Defaults to true if the number of available processors at runtime is greater than 1</i>
 	 * @return true if the input should be read on a separate thread, false otherwise
 	 */
 	public final boolean getReadInputOnSeparateThread() {
@@ -183,6 +192,229 @@ abstract class TextEntityDefaults<F extends TextFormat> extends Configuration {
 		this.readInputOnSeparateThread = readInputOnSeparateThread;
 	}
 
+	/**
+	 * Indicates whether input files will be read through memory-mapped buffers, instead of a {@link java.io.Reader}.
+	 * <p>When enabled, the parser processes the bytes of the file directly from memory-mapped regions of the file, without decoding the whole input
+	 *    into characters or copying it into the entity buffer. If {@link #isColumnProjectionEnabled()} also evaluates to true, the bytes of fields not used
+	 *    by a mapping are skipped without being decoded into {@code String}s. This reduces the processing and memory allocation required to read large files.
+	 * <p>Memory mapping is used only for entities whose input is an uncompressed file (i.e. provided by a {@link com.univocity.api.common.FileProvider})
+	 *    encoded in US-ASCII, ISO-8859-1 or UTF-8. Other entities are read as usual, using the settings given by {@link #getInputBufferSize()} and
+	 *    {@link #getReadInputOnSeparateThread()}.
+	 * <p><b>Note: </b> the contents of memory-mapped files must not be modified while they are being read.
+	 * <p><i>Defaults to false</i>
+	 * @return true if input files should be read through memory-mapped buffers, false otherwise
+	 */
+	public final boolean isMemoryMappingEnabled() {
+		if (memoryMappingEnabled == null) {
+			return false;
+		}
+		return memoryMappingEnabled;
+	}
+
+	/**
+	 * Defines whether input files should be read through memory-mapped buffers, instead of a {@link java.io.Reader}.
+	 * Refer to {@link #isMemoryMappingEnabled()} for details.
+	 * @param memoryMappingEnabled the flag indicating whether input files should be read through memory-mapped buffers
+	 */
+	public final void setMemoryMappingEnabled(boolean memoryMappingEnabled) {
+		this.memoryMappingEnabled = memoryMappingEnabled;
+	}
+
+	/**
+	 * Indicates whether the parser will locate delimiters, quotes and line separators in blocks of the input, instead of comparing one character at a time.
+	 * <p>When enabled, the parser scans a block of characters at once for the special characters of the format (such as the delimiter, quote and quote escape
+	 *    of a {@link com.univocity.api.entity.text.csv.CsvFormat}, and the line separator of the {@link TextFormat}), then copies the characters between them
+	 *    in bulk. Blocks are scanned using the vector instructions of the processor where supported by the Java runtime, or eight bytes at a time otherwise.
+	 *    This mostly benefits files with long values, where few characters of each block are special.
+	 * <p>The parsed records are identical to those produced by the character-by-character scan. Input that can't be scanned in blocks, such as formats whose
+	 *    delimiter or line separator are not ASCII characters, is parsed one character at a time.
+	 * <p><i>Defaults to false</i>
+	 * @return true if the input should be scanned in blocks, false otherwise
+	 */
+	public final boolean isVectorizedScanningEnabled() {
+		if (vectorizedScanningEnabled == null) {
+			return false;
+		}
+		return vectorizedScanningEnabled;
+	}
+
+	/**
+	 * Defines whether the parser should locate delimiters, quotes and line separators in blocks of the input, instead of comparing one character at a time.
+	 * Refer to {@link #isVectorizedScanningEnabled()} for details.
+	 * @param vectorizedScanningEnabled the flag indicating whether the input should be scanned in blocks
+	 */
+	public final void setVectorizedScanningEnabled(boolean vectorizedScanningEnabled) {
+		this.vectorizedScanningEnabled = vectorizedScanningEnabled;
+	}
+
+	/**
+	 * Returns the number of threads used to parse a single input file in parallel.
+	 * <p>When greater than 1, the input file is split into ranges of bytes of similar size, one for each thread. Each thread locates the first record boundary
+	 *    after the start of its range and parses records up to the first record boundary after the end of the range.
+	 *    <ul>
+	 *    	<li>In CSV files, line separators between quotes are part of values and are not treated as record boundaries. uniVocity uses the quote and
+	 *    		quote escape characters given by {@link com.univocity.api.entity.text.csv.CsvFormat#getQuote()} and
+	 *    		{@link com.univocity.api.entity.text.csv.CsvFormat#getQuoteEscape()} to identify these. If a boundary found by a thread does not match the end of the
+	 *    		range parsed by the previous thread, the range is parsed again from the correct position.</li>
+	 *    	<li>In TSV and fixed-width files, each line separator is a record boundary.</li>
+	 *    </ul>
+	 * <p>Parallel parsing is used only for entities whose input is a file (i.e. provided by a {@link com.univocity.api.common.FileProvider}) encoded in US-ASCII,
+	 *    ISO-8859-1 or UTF-8, where line separators can be found without decoding the input. Compressed files are split only if their compression
+	 *    format stores data in independent blocks (see {@link com.univocity.api.common.Compression}). Other entities are parsed by a single thread.
+	 * <p>Headers are extracted from the first range of the file. Use {@link #setParsedRecordOrderPreserved(boolean)} to determine whether
+	 *    records must be mapped in the order they appear in the file.
+	 * <p><i>Defaults to 1</i>
+	 * @return the number of threads used to parse a single input file.
+	 */
+	public final int getNumberOfParsingThreads() {
+		if (numberOfParsingThreads == null) {
+			return 1;
+		}
+		return numberOfParsingThreads;
+	}
+
+	/**
+	 * Defines the number of threads used to parse a single input file in parallel.
+	 * Refer to {@link #getNumberOfParsingThreads()} for details.
+	 * @param numberOfParsingThreads the number of threads used to parse a single input file.
+	 */
+	public final void setNumberOfParsingThreads(int numberOfParsingThreads) {
+		Args.positive(numberOfParsingThreads, "Number of parsing threads");
+		this.numberOfParsingThreads = numberOfParsingThreads;
+	}
+
+	/**
+	 * Indicates whether records parsed in parallel will be provided to the mapping in the same order they appear in the input.
+	 * <ul>
+	 * 	<li><i>When enabled</i>, records parsed by each thread are held until all records of the previous ranges of the file have been mapped.</li>
+	 *  <li><i>When disabled</i>, records are mapped as soon as they are parsed, in any order. This keeps all threads busy and should be preferred
+	 *  	when the order of records is irrelevant to the mapping.</li>
+	 * </ul>
+	 * <p>This setting has an effect only when {@link #getNumberOfParsingThreads()} is greater than 1.
+	 * <p><i>Defaults to true</i>
+	 * @return true if records parsed in parallel should be mapped in their original order, false otherwise
+	 */
+	public final boolean isParsedRecordOrderPreserved() {
+		if (parsedRecordOrderPreserved == null) {
+			return true;
+		}
+		return parsedRecordOrderPreserved;
+	}
+
+	/**
+	 * Defines whether records parsed in parallel should be provided to the mapping in the same order they appear in the input.
+	 * Refer to {@link #isParsedRecordOrderPreserved()} for details.
+	 * @param parsedRecordOrderPreserved the flag indicating whether records parsed in parallel should be mapped in their original order
+	 */
+	public final void setParsedRecordOrderPreserved(boolean parsedRecordOrderPreserved) {
+		this.parsedRecordOrderPreserved = parsedRecordOrderPreserved;
+	}
+
+	/**
+	 * Indicates whether only the fields used by the mappings of this entity will be parsed from the input.
+	 * <p>When enabled, uniVocity provides the parser with the set of fields used by each mapping that reads from this entity, including identifiers, references,
+	 *    fields copied to the destination, fields used in expressions and functions, and fields used by row filters
+	 *    (see {@link com.univocity.api.config.builders.EntityMapping#filterRows()}). Values of any other column are skipped by the parser
+	 *    without being stored or converted to {@code String}s, which reduces the processing required to read wide inputs where few columns are mapped.
+	 *    The number of values skipped is available from {@link com.univocity.api.engine.EntityMappingContext#getSkippedFields()}.
+	 * <p><b>Note: </b> rows provided to {@link com.univocity.api.engine.RowReader}s added with
+	 *    {@link com.univocity.api.config.builders.EntityMapping#addInputRowReader(com.univocity.api.engine.RowReader)} will only contain the fields used by the mapping.
+	 *    Keep this setting disabled if these readers need to access other fields of the input.
+	 * <p><i>Defaults to false</i>
+	 * @return true if only the fields used by mappings should be parsed from the input, false otherwise
+	 */
+	public final boolean isColumnProjectionEnabled() {
+		if (columnProjectionEnabled == null) {
+			return false;
+		}
+		return columnProjectionEnabled;
+	}
+
+	/**
+	 * Defines whether only the fields used by the mappings of this entity should be parsed from the input.
+	 * Refer to {@link #isColumnProjectionEnabled()} for details.
+	 * @param columnProjectionEnabled the flag indicating whether only the fields used by mappings should be parsed from the input
+	 */
+	public final void setColumnProjectionEnabled(boolean columnProjectionEnabled) {
+		this.columnProjectionEnabled = columnProjectionEnabled;
+	}
+
+	/**
+	 * Indicates whether a separate thread will be used to write to the output, so that the mapping does not wait for output operations to complete.
+	 * <ul>
+	 * 	<li><i>When enabled</i>, records are written into one of two output buffers while a writing thread transfers the contents of the other to the output.
+	 * 		The buffers are swapped once the buffer being filled reaches the size given by {@link #getOutputBufferSize()}, or when the interval
+	 * 		given by {@link #getOutputFlushInterval()} elapses. If the output is a file (i.e. provided by a {@link com.univocity.api.common.FileProvider})
+	 * 		encoded in UTF-8, US-ASCII or ISO-8859-1, characters are encoded directly into byte buffers and written to the file channel,
+	 * 		without going through a {@link java.io.Writer}.</li>
+	 *  <li><i>When disabled</i>, records are written by the thread executing the mapping, which pauses every time the output is flushed.</li>
+	 * </ul>
+	 * <p>Any buffered content is written and flushed before the output is closed.
+	 * <p><i>Defaults to false</i>
+	 * @return true if the output should be written on a separate thread, false otherwise
+	 */
+	public final boolean getWriteOutputOnSeparateThread() {
+		if (writeOutputOnSeparateThread == null) {
+			return false;
+		}
+		return writeOutputOnSeparateThread;
+	}
+
+	/**
+	 * Defines whether a separate thread should be used to write to the output, so that the mapping does not wait for output operations to complete.
+	 * Refer to {@link #getWriteOutputOnSeparateThread()} for details.
+	 * @param writeOutputOnSeparateThread the flag indicating whether or not the output should be written on a separate thread
+	 */
+	public final void setWriteOutputOnSeparateThread(boolean writeOutputOnSeparateThread) {
+		this.writeOutputOnSeparateThread = writeOutputOnSeparateThread;
+	}
+
+	/**
+	 * Returns the number of characters accumulated in each output buffer before its contents are handed to the output.
+	 * <p>This setting has an effect only when {@link #getWriteOutputOnSeparateThread()} evaluates to true.
+	 * <p><i>Defaults to 1024*1024 characters (i.e. 1,048,576 characters).</i>
+	 * @return the size of each output buffer, in number of characters.
+	 */
+	public final int getOutputBufferSize() {
+		if (outputBufferSize == null) {
+			return 1024 * 1024;
+		}
+		return outputBufferSize;
+	}
+
+	/**
+	 * Defines the number of characters accumulated in each output buffer before its contents are handed to the output.
+	 * <p>This setting has an effect only when {@link #getWriteOutputOnSeparateThread()} evaluates to true.
+	 * @param outputBufferSize the size of each output buffer, in number of characters.
+	 */
+	public final void setOutputBufferSize(int outputBufferSize) {
+		Args.positive(outputBufferSize, "Output buffer size");
+		this.outputBufferSize = outputBufferSize;
+	}
+
+	/**
+	 * Returns the maximum time, in milliseconds, content can remain in an output buffer before it is handed to the output, even if the buffer is not full.
+	 * <p>This setting has an effect only when {@link #getWriteOutputOnSeparateThread()} evaluates to true.
+	 * <p><i>Defaults to 0 (content is handed to the output only when the buffer is full or the output is closed)</i>
+	 * @return the maximum time, in milliseconds, between each transfer of buffered content to the output.
+	 */
+	public final int getOutputFlushInterval() {
+		if (outputFlushInterval == null) {
+			return 0;
+		}
+		return outputFlushInterval;
+	}
+
+	/**
+	 * Defines the maximum time, in milliseconds, content can remain in an output buffer before it is handed to the output, even if the buffer is not full.
+	 * <p>This setting has an effect only when {@link #getWriteOutputOnSeparateThread()} evaluates to true.
+	 * @param outputFlushInterval the maximum time, in milliseconds, between each transfer of buffered content to the output. Use 0 to disable.
+	 */
+	public final void setOutputFlushInterval(int outputFlushInterval) {
+		Args.positiveOrZero(outputFlushInterval, "Output flush interval");
+		this.outputFlushInterval = outputFlushInterval;
+	}
+
 	/**
 	 * Defines a default value to be used in substitution of null when there are empty fields in a text record.
 	 * <ul>
@@ -342,6 +574,30 @@ abstract class TextEntityDefaults<F extends TextFormat> extends Configuration {
 		if (readInputOnSeparateThread == null) {
 			readInputOnSeparateThread = defaults.getReadInputOnSeparateThread();
 		}
+		if (memoryMappingEnabled == null) {
+			memoryMappingEnabled = defaults.isMemoryMappingEnabled();
+		}
+		if (vectorizedScanningEnabled == null) {
+			vectorizedScanningEnabled = defaults.isVectorizedScanningEnabled();
+		}
+		if (numberOfParsingThreads == null) {
+			numberOfParsingThreads = defaults.getNumberOfParsingThreads();
+		}
+		if (parsedRecordOrderPreserved == null) {
+			parsedRecordOrderPreserved = defaults.isParsedRecordOrderPreserved();
+		}
+		if (columnProjectionEnabled == null) {
+			columnProjectionEnabled = defaults.isColumnProjectionEnabled();
+		}
+		if (writeOutputOnSeparateThread == null) {
+			writeOutputOnSeparateThread = defaults.getWriteOutputOnSeparateThread();
+		}
+		if (outputBufferSize == null) {
+			outputBufferSize = defaults.getOutputBufferSize();
+		}
+		if (outputFlushInterval == null) {
+			outputFlushInterval = defaults.getOutputFlushInterval();
+		}
 		if (format == null) {
 			format = newDefaultFormat();
 			format.copyDefaultsFrom(defaults.getFormat());